@@ -22,28 +22,44 @@ export default function CandidatesList({
   const [candidates, setCandidates] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
-  const [page] = useState(0);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  // The API pages by cursor: { items, nextCursor, hasMore }
+  const fetchPage = useCallback(
+    (cursor) =>
+      search.trim()
+        ? searchCandidates(search, roleId, "", "", cursor)
+        : getAllCandidates(roleId, cursor),
+    [search, roleId]
+  );
 
   const fetchTalentPool = useCallback(async () => {
     try {
       setLoading(true);
-      let data;
-
-      if (search.trim()) {
-        data = await searchCandidates(search, page);
-      } else {
-        data = await getAllCandidates(page, roleId);
-      }
-
-      // Handle Spring Boot Page object structure
-      setCandidates(data.content || data);
+      const data = await fetchPage();
+      setCandidates(data.items);
+      setNextCursor(data.nextCursor);
       setError(null);
     } catch (err) {
       setError("Unable to sync with talent database.");
     } finally {
       setLoading(false);
     }
-  }, [search, roleId, page]);
+  }, [fetchPage]);
+
+  async function loadMore() {
+    try {
+      setLoadingMore(true);
+      const data = await fetchPage(nextCursor);
+      setCandidates((prev) => [...prev, ...data.items]);
+      setNextCursor(data.nextCursor);
+    } catch {
+      alert("Unable to load more candidates.");
+    } finally {
+      setLoadingMore(false);
+    }
+  }
 
   useEffect(() => {
     fetchTalentPool();
@@ -63,10 +79,25 @@ export default function CandidatesList({
   if (error) return <ErrorState message={error} />;
   if (candidates.length === 0) return <EmptyState />;
 
-  return view === "table" ? (
-    <TableView candidates={candidates} onDelete={handleDelete} />
-  ) : (
-    <GridView candidates={candidates} onDelete={handleDelete} />
+  return (
+    <>
+      {view === "table" ? (
+        <TableView candidates={candidates} onDelete={handleDelete} />
+      ) : (
+        <GridView candidates={candidates} onDelete={handleDelete} />
+      )}
+      {nextCursor && (
+        <div className="flex justify-center py-6">
+          <button
+            onClick={loadMore}
+            disabled={loadingMore}
+            className="px-4 py-2 rounded-md text-xs font-bold uppercase tracking-widest text-indigo-600 bg-indigo-50 dark:bg-indigo-500/10 hover:bg-indigo-100 disabled:opacity-50 transition-colors"
+          >
+            {loadingMore ? "Loading..." : "Load more"}
+          </button>
+        </div>
+      )}
+    </>
   );
 }
 
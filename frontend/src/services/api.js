@@ -43,19 +43,22 @@ export async function createRole(roleData) {
   return res.data;
 }
 
-export async function searchCandidates(keyword, roleId = "", status = "", minScore = "") {
+// Returns one page: { items, nextCursor, hasMore }; pass nextCursor back to get the next one
+export async function searchCandidates(keyword, roleId = "", status = "", minScore = "", cursor = "", limit = "") {
   let url = '/resume/candidates?';
   if (keyword) url += `keyword=${keyword}&`;
   if (roleId) url += `roleId=${roleId}&`;
   if (status) url += `status=${status}&`;
   if (minScore) url += `minScore=${minScore}&`;
+  if (cursor) url += `cursor=${encodeURIComponent(cursor)}&`;
+  if (limit) url += `limit=${limit}&`;
 
   const res = await axiosClient.get(url);
   return res.data;
 }
 
-export async function getAllCandidates(page = 0, roleId = "") {
-  return searchCandidates("", roleId);
+export async function getAllCandidates(roleId = "", cursor = "") {
+  return searchCandidates("", roleId, "", "", cursor);
 }
 
 export async function getCandidateById(id) {
@@ -0,0 +1,126 @@
+package com.Sumanth.resume_scoring.benchmark;
+
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.service.ScoringEngineService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the scoring engine over a generated corpus. Run with the GC
+ * profiler (the jmh profile passes -prof gc) to get allocation rates alongside ops/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringEngineBenchmark {
+
+    private static final String[] FILLER = {
+            "designed", "implemented", "team", "delivered", "platform", "services", "customer",
+            "improved", "latency", "reduced", "costs", "across", "regions", "mentored", "engineers",
+            "project", "migration", "ownership", "roadmap", "stakeholders", "2019", "2021", "q3"
+    };
+
+    private static final String[] SECTIONS = {
+            "7+ years of experience building distributed systems.",
+            "Bachelor of Engineering (B.Tech) in Computer Science.",
+            "Contact: jane.doe@example.com, +1 415-555-0134",
+            "Worked 3 yrs as a consultant and 2 years in research."
+    };
+
+    @Param({"1024", "10240", "102400"})
+    private int resumeBytes;
+
+    @Param({"5", "50", "500"})
+    private int skillCount;
+
+    private ScoringEngineService scoringEngine;
+    private JobRole role;
+    private String resumeText;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        scoringEngine = new ScoringEngineService();
+        role = buildRole(skillCount);
+        resumeText = buildResume(random, role.getRequiredSkills(), resumeBytes);
+    }
+
+    @Benchmark
+    public int calculateAdvancedScore() {
+        return scoringEngine.calculateAdvancedScore(resumeText, role);
+    }
+
+    @Benchmark
+    public String detectExperienceLevel() {
+        return scoringEngine.detectExperienceLevel(resumeText);
+    }
+
+    @Benchmark
+    public String generateDetailedFeedback() {
+        return scoringEngine.generateDetailedFeedback(resumeText, role);
+    }
+
+    private static JobRole buildRole(int skills) {
+        JobRole role = new JobRole();
+        role.setId(1L);
+        role.setRoleName("Benchmark Role");
+        role.setMinExperienceYears(3);
+        role.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        List<RoleSkill> required = new ArrayList<>(skills);
+        for (int i = 0; i < skills; i++) {
+            RoleSkill skill = new RoleSkill();
+            skill.setId((long) i);
+            skill.setJobRole(role);
+            skill.setSkillName("skill" + i);
+            skill.setAliases("alias" + i + ", alt-" + i);
+            skill.setWeight(1 + (i % 5));
+            skill.setMandatory(i % 3 == 0);
+            required.add(skill);
+        }
+        role.setRequiredSkills(required);
+        return role;
+    }
+
+    // Roughly half of the skills appear, some only through an alias
+    private static String buildResume(Random random, List<RoleSkill> skills, int targetLength) {
+        StringBuilder text = new StringBuilder(targetLength + 64);
+        int section = 0;
+        while (text.length() < targetLength) {
+            int roll = random.nextInt(20);
+            if (roll == 0) {
+                text.append(SECTIONS[section++ % SECTIONS.length]);
+            } else if (roll < 4) {
+                RoleSkill skill = skills.get(random.nextInt(skills.size()));
+                if (skill.getId() % 2 == 0) {
+                    text.append(random.nextBoolean() ? skill.getSkillName().toUpperCase() : "alt-" + skill.getId());
+                }
+            } else {
+                text.append(FILLER[random.nextInt(FILLER.length)]);
+            }
+            text.append(random.nextInt(8) == 0 ? ".\n" : " ");
+        }
+        text.setLength(targetLength);
+        return text.toString();
+    }
+}
@@ -2,8 +2,10 @@ package com.Sumanth.resume_scoring;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ResumeScoringApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,57 @@
+package com.Sumanth.resume_scoring.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the candidate id sequence ahead of the ids already in the table. Databases created
+ * while candidates used IDENTITY get a fresh {@code candidate_seq} starting at 1 from
+ * {@code ddl-auto=update}, which would hand out taken ids; this raises it past
+ * {@code MAX(id)} at startup, before anything is inserted. Already seeded sequences are left alone,
+ * so upgrading needs no manual change to {@code candidate_seq}.
+ */
+@Component
+public class CandidateSequenceSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidateSequenceSeeder.class);
+
+    private static final String SEQUENCE = "candidate_seq";
+    // Must match allocationSize on Candidate.id: a fetched value v hands out ids v-49..v
+    private static final long ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void seed() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM candidates", Long.class);
+        long floor = maxId + ALLOCATION_SIZE;
+
+        SequenceSupport sequences = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+        if (sequences.supportsSequences()) {
+            // Reading a native sequence consumes a value; losing one block of ids is harmless
+            Long next = jdbcTemplate.queryForObject(sequences.getSequenceNextValString(SEQUENCE), Long.class);
+            if (next != null && next < floor) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCE + " RESTART WITH " + floor);
+                log.info("Raised {} from {} to {} past existing candidate ids", SEQUENCE, next, floor);
+            }
+        } else {
+            // MySQL has no sequences; Hibernate keeps the next value in a one-row table
+            int raised = jdbcTemplate.update("UPDATE " + SEQUENCE + " SET next_val = ? WHERE next_val < ?", floor, floor);
+            if (raised > 0) {
+                log.info("Raised {} to {} past existing candidate ids", SEQUENCE, floor);
+            }
+        }
+    }
+}
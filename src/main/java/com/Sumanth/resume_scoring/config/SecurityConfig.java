@@ -2,6 +2,7 @@ package com.Sumanth.resume_scoring.config;
 
 import com.Sumanth.resume_scoring.security.CustomUserDetailsService;
 import com.Sumanth.resume_scoring.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,8 +33,10 @@ public class SecurityConfig {
         http
             .cors().and().csrf().disable() // Disabling CSRF for stateless REST APIs
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // Async results of already authorized requests
                 .requestMatchers("/api/auth/**").permitAll() // Public paths
                 .requestMatchers("/api/resume/upload").permitAll() // Allowing candidates to upload without logging in
+                .requestMatchers("/actuator/health/**").permitAll() // Liveness/readiness probes
                 .requestMatchers("/h2-console/**").permitAll() // Allow H2 DB access during development
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,91 @@
+package com.Sumanth.resume_scoring.config;
+
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.service.PdfExtractionService;
+import com.Sumanth.resume_scoring.service.ScoringEngineService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses and scores a bundled sample resume before the instance takes traffic,
+ * so PDFBox font caches are built and the hot paths are JIT-compiled ahead of
+ * the first real upload. Runners finish before Spring Boot reports readiness
+ * (/actuator/health/readiness), so a new pod only becomes ready once warm.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    @Autowired
+    private PdfExtractionService pdfExtractionService;
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.iterations:20}")
+    private int iterations;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!enabled || iterations <= 0) return;
+
+        long start = System.nanoTime();
+        Path sample = Files.createTempFile("warmup-", ".pdf");
+        try (InputStream in = new ClassPathResource("warmup/sample-resume.pdf").getInputStream()) {
+            Files.copy(in, sample, StandardCopyOption.REPLACE_EXISTING);
+            JobRole role = sampleRole();
+            for (int i = 0; i < iterations; i++) {
+                String text = pdfExtractionService.extractUncached(sample);
+                scoringEngineService.evaluate(text, role);
+                scoringEngineService.generateDetailedFeedback(text, role);
+            }
+        } catch (Exception e) {
+            // A failed warm-up only costs latency; never keep the instance from starting
+            log.warn("Startup warm-up failed", e);
+        } finally {
+            Files.deleteIfExists(sample);
+        }
+        log.info("Startup warm-up finished {} iterations in {} ms", iterations, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Unsaved role: a null id keeps its skill matcher out of the shared cache
+    private static JobRole sampleRole() {
+        JobRole role = new JobRole();
+        role.setRoleName("Warm-up");
+        role.setMinExperienceYears(3);
+        List<RoleSkill> skills = new ArrayList<>();
+        String[][] definitions = {
+                {"Java", null}, {"Spring Boot", "Spring"}, {"SQL", "MySQL, PostgreSQL"},
+                {"Docker", null}, {"Kubernetes", "k8s"}, {"AWS", "Amazon Web Services"}
+        };
+        for (String[] definition : definitions) {
+            RoleSkill skill = new RoleSkill();
+            skill.setJobRole(role);
+            skill.setSkillName(definition[0]);
+            skill.setAliases(definition[1]);
+            skill.setWeight(5);
+            skill.setMandatory(true);
+            skills.add(skill);
+        }
+        role.setRequiredSkills(skills);
+        return role;
+    }
+}
@@ -2,9 +2,14 @@ package com.Sumanth.resume_scoring.controller;
 
 import com.Sumanth.resume_scoring.dto.CandidateMapper;
 import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.RoleSkillUpdateDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidateResponseDTO;
 import com.Sumanth.resume_scoring.dto.response.JobRoleDTO;
+import com.Sumanth.resume_scoring.dto.response.RescoreStatusDTO;
 import com.Sumanth.resume_scoring.entity.JobRole;
 import com.Sumanth.resume_scoring.service.JobRoleService;
+import com.Sumanth.resume_scoring.service.LeaderboardService;
+import com.Sumanth.resume_scoring.service.RoleRescoreService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +26,12 @@ public class JobRoleController {
     @Autowired
     private JobRoleService jobRoleService;
 
+    @Autowired
+    private RoleRescoreService roleRescoreService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     @GetMapping
     public ResponseEntity<List<JobRoleDTO>> getAllRoles() {
         return ResponseEntity.ok(jobRoleService.getAllJobRoles().stream()
@@ -45,6 +56,32 @@ public class JobRoleController {
         return ResponseEntity.ok(CandidateMapper.toJobRoleDto(updated));
     }
 
+    @PatchMapping("/{id}/skills/{skillId}")
+    public ResponseEntity<JobRoleDTO> updateSkill(@PathVariable("id") Long id, @PathVariable("skillId") Long skillId,
+                                                  @RequestBody RoleSkillUpdateDTO request) {
+        JobRole updated = jobRoleService.updateSkill(id, skillId, request);
+        return ResponseEntity.ok(CandidateMapper.toJobRoleDto(updated));
+    }
+
+    /**
+     * Top candidates of a role from the in-memory leaderboard
+     */
+    @GetMapping("/{id}/top")
+    public ResponseEntity<List<CandidateResponseDTO>> getTopCandidates(@PathVariable("id") Long id,
+                                                                       @RequestParam(value = "k", defaultValue = "20") int k) {
+        return ResponseEntity.ok(leaderboardService.getTop(id, k));
+    }
+
+    @PostMapping("/{id}/rescore")
+    public ResponseEntity<RescoreStatusDTO> rescoreRole(@PathVariable("id") Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(roleRescoreService.startRescore(id));
+    }
+
+    @GetMapping("/{id}/rescore")
+    public ResponseEntity<RescoreStatusDTO> getRescoreStatus(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(roleRescoreService.getStatus(id));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, String>> deleteRole(@PathVariable("id") Long id) {
         jobRoleService.deleteRole(id);
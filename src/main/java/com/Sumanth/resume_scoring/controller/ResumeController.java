@@ -1,14 +1,25 @@
 package com.Sumanth.resume_scoring.controller;
 
 import com.Sumanth.resume_scoring.dto.CandidateMapper;
+import com.Sumanth.resume_scoring.dto.request.ScoreMatrixRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.UploadSessionRequestDTO;
 import com.Sumanth.resume_scoring.dto.response.BulkUploadResponseDTO;
 import com.Sumanth.resume_scoring.dto.response.CandidateDetailDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidatePageDTO;
 import com.Sumanth.resume_scoring.dto.response.CandidateResponseDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidateRoleScoresDTO;
 import com.Sumanth.resume_scoring.dto.response.JobRoleDTO;
 import com.Sumanth.resume_scoring.dto.response.UploadResponseDTO;
+import com.Sumanth.resume_scoring.dto.response.UploadSessionDTO;
 import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.service.BulkUploadJobService;
 import com.Sumanth.resume_scoring.service.CandidateService;
+import com.Sumanth.resume_scoring.service.ChunkedUploadService;
+import com.Sumanth.resume_scoring.service.IngestExecutor;
 import com.Sumanth.resume_scoring.service.JobRoleService;
+import com.Sumanth.resume_scoring.service.ScoringMatrixService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -18,10 +29,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @RestController
@@ -34,71 +47,124 @@ public class ResumeController {
     @Autowired
     private JobRoleService jobRoleService;
 
+    @Autowired
+    private ScoringMatrixService scoringMatrixService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IngestExecutor ingestExecutor;
+
+    @Autowired
+    private BulkUploadJobService bulkUploadJobService;
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
     /**
-     * Upload and analyze resume with role-based scoring
+     * Upload and analyze resume with role-based scoring.
+     * Parsing runs on the ingest pool; a full queue answers 503 with Retry-After.
      */
     @PostMapping("/upload")
-    public ResponseEntity<UploadResponseDTO> uploadResume(
+    public CompletableFuture<ResponseEntity<UploadResponseDTO>> uploadResume(
             @RequestParam("file") MultipartFile file,
             @RequestParam("name") String name,
             @RequestParam("email") String email,
             @RequestParam(value = "phone", required = false) String phone,
             @RequestParam("roleId") Long roleId) {
 
-        try {
-            if (file.isEmpty()) {
-                throw new IllegalArgumentException("Please upload a valid file.");
-            }
-            if (candidateService.emailExists(email)) {
-                return ResponseEntity.status(HttpStatus.CONFLICT)
-                        .body(new UploadResponseDTO(false, null, null, null, null, "A candidate with this email is already registered."));
-            }
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Please upload a valid file.");
+        }
+        if (candidateService.emailExists(email)) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new UploadResponseDTO(false, null, null, null, null, "A candidate with this email is already registered.")));
+        }
 
-            Candidate savedCandidate = candidateService.saveAndProcessCandidate(file, name, email, phone, roleId);
+        return ingestExecutor.submit(() -> {
+            Candidate savedCandidate;
+            try {
+                savedCandidate = candidateService.saveAndProcessCandidate(file, name, email, phone, roleId);
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Processing failed: " + e.getMessage());
+            }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(
                 new UploadResponseDTO(true, savedCandidate.getId(), savedCandidate.getTotalScore(), 
-                                      savedCandidate.getRankInRole(), savedCandidate.getExperienceLevel(), 
+                                      candidateService.getRankInRole(savedCandidate), savedCandidate.getExperienceLevel(), 
                                       "Resume analyzed and candidate registered successfully.")
             );
-
-        } catch (IllegalArgumentException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException("Processing failed: " + e.getMessage());
-        }
+        });
     }
 
+    /**
+     * Stores the files and returns a job id straight away (202); scoring continues in
+     * the background even if the client disconnects. Poll the job for per-file progress.
+     */
     @PostMapping("/bulk-upload")
     public ResponseEntity<BulkUploadResponseDTO> bulkUploadResume(
             @RequestParam("files") MultipartFile[] files,
             @RequestParam("roleId") Long roleId) {
-        
-        int successCount = 0;
-        List<String> failedFiles = new ArrayList<>();
 
-        for (MultipartFile file : files) {
-            try {
-                // Determine a basic name/email strategy for bulk, or extract from PDF.
-                // For a robust SaaS, we parse email/phone directly from resumeText if not provided.
-                // But passing basic mock data for API requirement compliance in minimal time.
-                String defaultName = file.getOriginalFilename().replace(".pdf", "");
-                String defaultEmail = defaultName.replaceAll("\\s", "").toLowerCase() + "@example.com";
-                
-                if (candidateService.emailExists(defaultEmail)) {
-                    continue; // skip duplicate
-                }
-
-                candidateService.saveAndProcessCandidate(file, defaultName, defaultEmail, null, roleId);
-                successCount++;
-            } catch (Exception e) {
-                failedFiles.add(file.getOriginalFilename() + ": " + e.getMessage());
-            }
-        }
-        
-        return ResponseEntity.ok(
-            new BulkUploadResponseDTO(files.length, successCount, failedFiles.size(), failedFiles)
-        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkUploadJobService.startJob(files, roleId));
+    }
+
+    /**
+     * Same as bulk-upload for a ZIP of PDFs sent as the raw request body (not multipart), so
+     * archives are bounded by bulk-upload.zip.max-bytes rather than the multipart limits.
+     * Entries are read one at a time while the job runs.
+     */
+    @PostMapping(value = "/bulk-upload/zip", consumes = {"application/zip", "application/x-zip-compressed", "application/octet-stream"})
+    public ResponseEntity<BulkUploadResponseDTO> bulkUploadZip(
+            @RequestParam("roleId") Long roleId,
+            HttpServletRequest request) throws IOException {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(bulkUploadJobService.startZipJob(request.getInputStream(), request.getContentLengthLong(), roleId));
+    }
+
+    @GetMapping("/bulk-upload/{jobId}")
+    public ResponseEntity<BulkUploadResponseDTO> getBulkUploadStatus(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(bulkUploadJobService.getStatus(jobId));
+    }
+
+    /**
+     * Opens a resumable upload for a large PDF or ZIP; PUT its chunks, then complete it.
+     */
+    @PostMapping("/upload-sessions")
+    public ResponseEntity<UploadSessionDTO> createUploadSession(@RequestBody UploadSessionRequestDTO request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(chunkedUploadService.createSession(request));
+    }
+
+    @GetMapping("/upload-sessions/{sessionId}")
+    public ResponseEntity<UploadSessionDTO> getUploadSession(@PathVariable("sessionId") String sessionId) {
+        return ResponseEntity.ok(chunkedUploadService.getSession(sessionId));
+    }
+
+    /**
+     * Raw chunk bytes at the given offset; the body is streamed to disk, not buffered.
+     */
+    @PutMapping("/upload-sessions/{sessionId}/chunks")
+    public ResponseEntity<UploadSessionDTO> uploadChunk(
+            @PathVariable("sessionId") String sessionId,
+            @RequestParam("offset") long offset,
+            HttpServletRequest request) throws IOException {
+
+        return ResponseEntity.ok(chunkedUploadService.writeChunk(sessionId, offset, request.getInputStream()));
+    }
+
+    @PostMapping("/upload-sessions/{sessionId}/complete")
+    public ResponseEntity<BulkUploadResponseDTO> completeUploadSession(@PathVariable("sessionId") String sessionId) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(chunkedUploadService.complete(sessionId));
+    }
+
+    @DeleteMapping("/upload-sessions/{sessionId}")
+    public ResponseEntity<Map<String, String>> cancelUploadSession(@PathVariable("sessionId") String sessionId) {
+        chunkedUploadService.cancel(sessionId);
+        return ResponseEntity.ok(Map.of("message", "Upload session cancelled."));
     }
 
     /**
@@ -110,16 +176,20 @@ public class ResumeController {
     }
 
     /**
-     * Get all candidates with advanced filtering
+     * Get candidates with advanced filtering, one page at a time.
+     * Pass the returned nextCursor back as "cursor" to continue; limit is capped server-side.
      */
     @GetMapping("/candidates")
-    public ResponseEntity<List<CandidateResponseDTO>> getCandidates(
+    public ResponseEntity<CandidatePageDTO> getCandidates(
             @RequestParam(required = false) Long roleId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Integer minScore,
-            @RequestParam(required = false) String keyword) {
-        
-        return ResponseEntity.ok(candidateService.searchCandidates(roleId, status, minScore, keyword));
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "score") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(candidateService.searchCandidates(roleId, status, minScore, keyword, sort, cursor, limit));
     }
 
     /**
@@ -160,6 +230,27 @@ public class ResumeController {
         return new ResponseEntity<>(csv, headers, HttpStatus.OK);
     }
 
+    /**
+     * Score candidates (or all of them) against every active role, streamed as NDJSON rows
+     */
+    @PostMapping("/score-matrix")
+    public ResponseEntity<StreamingResponseBody> scoreMatrix(
+            @RequestBody(required = false) ScoreMatrixRequestDTO request) {
+
+        List<Long> candidateIds = request != null ? request.getCandidateIds() : null;
+        StreamingResponseBody body = out -> scoringMatrixService.streamMatrix(candidateIds, rows -> {
+            for (CandidateRoleScoresDTO row : rows) {
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write('\n');
+            }
+            out.flush();
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping("/reanalyze/{id}")
     public ResponseEntity<CandidateResponseDTO> reanalyzeCandidate(@PathVariable("id") Long id) {
         try {
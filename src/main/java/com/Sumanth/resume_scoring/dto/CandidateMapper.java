@@ -5,10 +5,11 @@ import com.Sumanth.resume_scoring.dto.response.CandidateResponseDTO;
 import com.Sumanth.resume_scoring.dto.response.JobRoleDTO;
 import com.Sumanth.resume_scoring.entity.Candidate;
 import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.repository.CandidateSummaryView;
 
 public class CandidateMapper {
 
-    public static CandidateResponseDTO toResponseDto(Candidate candidate) {
+    public static CandidateResponseDTO toResponseDto(Candidate candidate, Integer rankInRole) {
         if (candidate == null) return null;
         
         return CandidateResponseDTO.builder()
@@ -19,11 +20,26 @@ public class CandidateMapper {
                 .status(candidate.getStatus())
                 .roleName(candidate.getJobRole() != null ? candidate.getJobRole().getRoleName() : null)
                 .experienceLevel(candidate.getExperienceLevel())
-                .rankInRole(candidate.getRankInRole())
+                .rankInRole(rankInRole)
                 .build();
     }
 
-    public static CandidateDetailDTO toDetailDto(Candidate candidate) {
+    public static CandidateResponseDTO toResponseDto(CandidateSummaryView candidate, Integer rankInRole) {
+        if (candidate == null) return null;
+
+        return CandidateResponseDTO.builder()
+                .id(candidate.getId())
+                .name(candidate.getName())
+                .email(candidate.getEmail())
+                .totalScore(candidate.getTotalScore())
+                .status(candidate.getStatus())
+                .roleName(candidate.getRoleName())
+                .experienceLevel(candidate.getExperienceLevel())
+                .rankInRole(rankInRole)
+                .build();
+    }
+
+    public static CandidateDetailDTO toDetailDto(Candidate candidate, Integer rankInRole, String feedback) {
         if (candidate == null) return null;
         
         return CandidateDetailDTO.builder()
@@ -41,8 +57,8 @@ public class CandidateMapper {
                 .softSkillsScore(candidate.getSoftSkillsScore())
                 .status(candidate.getStatus())
                 .experienceLevel(candidate.getExperienceLevel())
-                .rankInRole(candidate.getRankInRole())
-                .feedback(candidate.getFeedback())
+                .rankInRole(rankInRole)
+                .feedback(feedback)
                 .tags(candidate.getTags())
                 .jobRole(toJobRoleDto(candidate.getJobRole()))
                 .build();
@@ -0,0 +1,16 @@
+package com.Sumanth.resume_scoring.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleSkillUpdateDTO {
+    // Null fields are left unchanged
+    private Integer weight;
+    private Boolean mandatory;
+}
@@ -0,0 +1,17 @@
+package com.Sumanth.resume_scoring.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreMatrixRequestDTO {
+    // Empty or missing means every candidate
+    private List<Long> candidateIds;
+}
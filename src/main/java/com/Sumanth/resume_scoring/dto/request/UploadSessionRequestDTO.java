@@ -0,0 +1,17 @@
+package com.Sumanth.resume_scoring.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionRequestDTO {
+    // A single .pdf or a .zip of PDFs
+    private String fileName;
+    private Long totalSize;
+    private Long roleId;
+}
@@ -0,0 +1,21 @@
+package com.Sumanth.resume_scoring.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUploadItemDTO {
+    private String fileName;
+    private String status; // e.g. "QUEUED", "EXTRACTING", "SCORED", "FAILED"
+    private Long candidateId;
+    private Integer score;
+    // Rank once the whole batch has been indexed
+    private Integer rank;
+    private String experienceLevel;
+    private String error;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -12,8 +13,16 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class BulkUploadResponseDTO {
+    private String jobId;
+    private Long roleId;
+    private String state; // e.g. "QUEUED", "RUNNING", "COMPLETED", "FAILED"
     private int totalUploaded;
+    private int pendingCount;
     private int successCount;
     private int failedCount;
     private List<String> failedEmails;
+    private List<BulkUploadItemDTO> results;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error;
 }
@@ -0,0 +1,19 @@
+package com.Sumanth.resume_scoring.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidatePageDTO {
+    private List<CandidateResponseDTO> items;
+    // Pass back as "cursor" for the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
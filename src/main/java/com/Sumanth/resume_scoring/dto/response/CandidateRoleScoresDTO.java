@@ -0,0 +1,22 @@
+package com.Sumanth.resume_scoring.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateRoleScoresDTO {
+    private Long candidateId;
+    private String candidateName;
+    // Role ID -> score against that role
+    private Map<Long, Integer> roleScores;
+    private Long bestRoleId;
+    private String bestRoleName;
+    private Integer bestScore;
+}
@@ -0,0 +1,22 @@
+package com.Sumanth.resume_scoring.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoreStatusDTO {
+    private Long roleId;
+    private String state; // e.g. "IDLE", "QUEUED", "RUNNING", "COMPLETED", "CANCELLED", "FAILED"
+    private long totalCandidates;
+    private long processedCandidates;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,28 @@
+package com.Sumanth.resume_scoring.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionDTO {
+    private String sessionId;
+    private String fileName;
+    private Long roleId;
+    private long totalSize;
+    private long chunkSize;
+    private int totalChunks;
+    private int receivedChunks;
+    // Chunk i covers bytes [i * chunkSize, min((i + 1) * chunkSize, totalSize))
+    private List<Integer> missingChunks;
+    // Bulk upload job started when the session was completed
+    private String jobId;
+    private LocalDateTime expiresAt;
+}
@@ -3,7 +3,9 @@ package com.Sumanth.resume_scoring.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,15 +14,20 @@ import java.util.List;
     @Index(name = "idx_email", columnList = "email"),
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_role_id", columnList = "role_id"),
-    @Index(name = "idx_total_score", columnList = "total_score")
+    @Index(name = "idx_total_score", columnList = "total_score"),
+    // Keyset listing; InnoDB appends the primary key, so these also order ties by id
+    @Index(name = "idx_role_score", columnList = "role_id, total_score"),
+    @Index(name = "idx_created_at", columnList = "created_at")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Candidate {
 
+    // Pooled sequence (a table on MySQL) instead of IDENTITY so bulk inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidate_seq")
+    @SequenceGenerator(name = "candidate_seq", sequenceName = "candidate_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -39,7 +46,11 @@ public class Candidate {
     @Column(name = "github_url")
     private String githubUrl;
 
+    // Resume text can be hundreds of KB; load it only when read (needs the Hibernate enhance plugin)
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "resume_text", columnDefinition = "TEXT")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String resumeText;
 
     @Column(name = "file_name")
@@ -62,18 +73,29 @@ public class Candidate {
     @Column(name = "soft_skills_score")
     private Integer softSkillsScore;
 
+    // Score breakdown, kept so weight edits rescore without rereading resume_text
+    @Column(name = "skill_vector", length = 1024)
+    private byte[] skillVector;
+
+    // Identifies the skill list the vector is aligned to; a mismatch means the text must be rescanned
+    @Column(name = "skill_signature", length = 64)
+    private String skillSignature;
+
+    @Column(name = "experience_years")
+    private Integer experienceYears;
+
+    @Column(name = "education_score")
+    private Integer educationScore;
+
+    @Column(name = "quality_score")
+    private Integer qualityScore;
+
     @Column(name = "status")
     private String status = "NEW"; 
 
     @Column(name = "experience_level")
     private String experienceLevel; 
 
-    @Column(name = "rank_in_role")
-    private Integer rankInRole;
-
-    @Column(columnDefinition = "TEXT")
-    private String feedback;
-
     // SaaS Feature: Tags for easy filtering in the UI (e.g., "Top 10%", "Fast Learner")
     @ElementCollection
     @CollectionTable(name = "candidate_tags", joinColumns = @JoinColumn(name = "candidate_id"))
@@ -46,7 +46,9 @@ public class JobRole {
     @Column(name = "min_score_threshold")
     private Integer minScoreThreshold;
 
-    @OneToMany(mappedBy = "jobRole", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Stable order keeps skill indexes aligned with compiled matchers across loads
+    @OneToMany(mappedBy = "jobRole", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OrderBy("id")
     private List<RoleSkill> requiredSkills;
 
     @Column(name = "created_at", updatable = false)
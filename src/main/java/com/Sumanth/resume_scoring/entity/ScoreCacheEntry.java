@@ -0,0 +1,67 @@
+package com.Sumanth.resume_scoring.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "score_cache", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_score_cache_key", columnNames = {"content_hash", "role_id", "role_version", "engine_version"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the resume text, hex encoded
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "role_id", nullable = false)
+    private Long roleId;
+
+    @Column(name = "role_version", nullable = false)
+    private Long roleVersion;
+
+    @Column(name = "engine_version", nullable = false)
+    private Integer engineVersion;
+
+    @Column(name = "score")
+    private Integer score;
+
+    @Column(name = "experience_level")
+    private String experienceLevel;
+
+    @Column(name = "skill_score")
+    private Integer skillScore;
+
+    @Column(name = "matched_skills", length = 1024)
+    private byte[] matchedSkills;
+
+    @Column(name = "skill_signature", length = 64)
+    private String skillSignature;
+
+    @Column(name = "experience_years")
+    private Integer experienceYears;
+
+    @Column(name = "education_score")
+    private Integer educationScore;
+
+    @Column(name = "quality_score")
+    private Integer qualityScore;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,14 @@
+package com.Sumanth.resume_scoring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a role's skills, skill weights or experience threshold change;
+ * listeners run after the change commits.
+ */
+@Getter
+@AllArgsConstructor
+public class RoleSkillsChangedEvent {
+    private final Long roleId;
+}
@@ -0,0 +1,149 @@
+package com.Sumanth.resume_scoring.pdf;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Text extraction with a character cap, either sequentially or split into page
+ * ranges extracted in parallel. PDFBox documents are not thread-safe, so every
+ * extra range opens its own {@link PDDocument} on the same file; the stripper
+ * keeps no state across pages, so the joined ranges equal the sequential text.
+ */
+public final class PdfTextExtractor {
+
+    private final int maxChars;
+    private final Supplier<MemoryUsageSetting> memoryUsage;
+
+    public PdfTextExtractor(int maxChars, Supplier<MemoryUsageSetting> memoryUsage) {
+        this.maxChars = maxChars;
+        this.memoryUsage = memoryUsage;
+    }
+
+    public String extract(PDDocument document) throws IOException {
+        return extractRange(document, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Extracts {@code document} (already loaded from {@code file}) in {@code ranges} page ranges.
+     * The first range runs on the calling thread using {@code document}; the rest run on {@code executor}.
+     */
+    public String extractParallel(PDDocument document, File file, int ranges, ExecutorService executor) throws IOException {
+        int pageCount = document.getNumberOfPages();
+        int perRange = (pageCount + ranges - 1) / Math.max(1, ranges);
+        if (perRange >= pageCount) {
+            return extract(document);
+        }
+
+        List<Future<String>> rest = new ArrayList<>();
+        for (int start = perRange + 1; start <= pageCount; start += perRange) {
+            int first = start;
+            int last = Math.min(pageCount, start + perRange - 1);
+            rest.add(executor.submit(() -> {
+                try (PDDocument copy = PDDocument.load(file, memoryUsage.get())) {
+                    return extractRange(copy, first, last);
+                }
+            }));
+        }
+
+        try {
+            StringBuilder joined = new StringBuilder(extractRange(document, 1, perRange));
+            for (Future<String> part : rest) {
+                if (joined.length() >= maxChars) break;
+                joined.append(part.get());
+            }
+            return joined.length() > maxChars ? joined.substring(0, maxChars) : joined.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Text extraction cancelled");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        } finally {
+            // Stops ranges that are no longer needed after a failure, cancellation or the character cap
+            for (Future<String> part : rest) {
+                part.cancel(true);
+            }
+        }
+    }
+
+    private String extractRange(PDDocument document, int startPage, int endPage) throws IOException {
+        CappedWriter text = new CappedWriter(maxChars);
+        InterruptibleTextStripper stripper = new InterruptibleTextStripper();
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        try {
+            stripper.writeText(document, text);
+        } catch (CharLimitReachedException e) {
+            // Text past the cap is dropped
+        }
+        return text.toString();
+    }
+
+    // Lets a timed-out ingest task stop between pages instead of parsing the rest of the document
+    private static final class InterruptibleTextStripper extends PDFTextStripper {
+        private InterruptibleTextStripper() throws IOException {
+            super();
+        }
+
+        @Override
+        public void processPage(PDPage page) throws IOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Text extraction cancelled");
+            }
+            super.processPage(page);
+        }
+    }
+
+    private static final class CharLimitReachedException extends IOException {
+        private CharLimitReachedException() {
+            super(null, null);
+        }
+    }
+
+    // Stops the stripper as soon as the character cap is reached instead of building the full text
+    private static final class CappedWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+
+        private CappedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int room = limit - buffer.length();
+            buffer.append(chars, offset, Math.min(room, length));
+            if (length > room) {
+                throw new CharLimitReachedException();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,22 +20,85 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
 
     boolean existsByEmail(String email);
 
+    // Bulk ingest duplicate check: one IN query instead of an exists query per file
+    @Query("SELECT c.email FROM Candidate c WHERE c.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
     Page<Candidate> findByJobRoleId(Long roleId, Pageable pageable);
 
-    @Query("SELECT c FROM Candidate c WHERE " +
-           "(:roleId IS NULL OR c.jobRole.id = :roleId) AND " +
-           "(:status IS NULL OR c.status = :status) AND " +
-           "(:minScore IS NULL OR c.totalScore >= :minScore) AND " +
-           "(:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(c.email) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Candidate> searchCandidates(
+    long countByJobRoleId(Long roleId);
+
+    // Keyset paging for role-wide jobs; offsets get slower the deeper they go
+    List<Candidate> findByJobRoleIdAndIdGreaterThanOrderByIdAsc(Long roleId, Long id, Pageable pageable);
+
+    String SUMMARY_COLUMNS = "SELECT c.id AS id, c.name AS name, c.email AS email, c.totalScore AS totalScore, " +
+            "c.status AS status, c.experienceLevel AS experienceLevel, r.id AS roleId, r.roleName AS roleName, " +
+            "c.createdAt AS createdAt " +
+            "FROM Candidate c LEFT JOIN c.jobRole r ";
+
+    String SEARCH_FILTERS = "WHERE " +
+            "(:roleId IS NULL OR r.id = :roleId) AND " +
+            "(:status IS NULL OR c.status = :status) AND " +
+            "(:minScore IS NULL OR c.totalScore >= :minScore) AND " +
+            "(:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(c.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) ";
+
+    // List rows select only their own columns, never the resume text. Keyset paging: each page
+    // continues strictly after the last (score, id) seen, so deep pages cost the same as the first.
+    // Unscored candidates sort last; a cursor with a null score continues among them by id
+    @Query(SUMMARY_COLUMNS + SEARCH_FILTERS +
+           "AND (:afterId IS NULL " +
+           "OR (:afterScore IS NOT NULL AND (c.totalScore < :afterScore OR (c.totalScore = :afterScore AND c.id < :afterId) OR c.totalScore IS NULL)) " +
+           "OR (:afterScore IS NULL AND c.totalScore IS NULL AND c.id < :afterId)) " +
+           "ORDER BY c.totalScore DESC NULLS LAST, c.id DESC")
+    List<CandidateSummaryView> searchByScore(
+            @Param("roleId") Long roleId,
+            @Param("status") String status,
+            @Param("minScore") Integer minScore,
+            @Param("keyword") String keyword,
+            @Param("afterScore") Integer afterScore,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(SUMMARY_COLUMNS + SEARCH_FILTERS +
+           "AND (:afterCreatedAt IS NULL OR c.createdAt < :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id < :afterId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CandidateSummaryView> searchByCreatedAt(
             @Param("roleId") Long roleId,
             @Param("status") String status,
             @Param("minScore") Integer minScore,
-            @Param("keyword") String keyword);
+            @Param("keyword") String keyword,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query(SUMMARY_COLUMNS + "ORDER BY c.id")
+    List<CandidateSummaryView> findAllSummaries();
 
     @Query("SELECT c.status, COUNT(c) FROM Candidate c GROUP BY c.status")
     List<Object[]> getStatusCounts();
 
-    // Match this name exactly with the service call
-    List<Candidate> findByJobRoleIdOrderByTotalScoreDesc(Long roleId);
+    // Batch Scoring: Reads only what scoring needs, paged by id so deep pages stay cheap
+    @Query("SELECT c.id AS id, c.name AS name, c.resumeText AS resumeText FROM Candidate c " +
+           "WHERE c.id > :afterId ORDER BY c.id")
+    List<CandidateTextView> findTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT c.id AS id, c.name AS name, c.resumeText AS resumeText FROM Candidate c " +
+           "WHERE c.id IN :ids ORDER BY c.id")
+    List<CandidateTextView> findTextsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Rank index rebuild: id, role and score only, paged by id
+    @Query("SELECT c.id AS id, c.jobRole.id AS roleId, c.totalScore AS totalScore FROM Candidate c " +
+           "WHERE c.id > :afterId AND c.jobRole IS NOT NULL ORDER BY c.id")
+    List<CandidateScoreView> findScoresAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Leaderboard refill: best listed candidates of a role, ties broken by id like the in-memory order
+    @Query("SELECT c.id AS id, c.name AS name, c.email AS email, c.totalScore AS totalScore, " +
+           "c.status AS status, c.experienceLevel AS experienceLevel FROM Candidate c " +
+           "WHERE c.jobRole.id = :roleId AND c.totalScore IS NOT NULL " +
+           "AND (c.status IS NULL OR c.status NOT IN :excluded) ORDER BY c.totalScore DESC, c.id ASC")
+    List<LeaderboardView> findLeaderboard(@Param("roleId") Long roleId, @Param("excluded") Collection<String> excluded,
+                                          Pageable pageable);
+
+    @Query(SUMMARY_COLUMNS + "WHERE r.id = :roleId ORDER BY c.totalScore DESC")
+    List<CandidateSummaryView> findByJobRoleIdOrderByTotalScoreDesc(@Param("roleId") Long roleId);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.Sumanth.resume_scoring.repository;
+
+/**
+ * Projection used to rebuild the in-memory rank index without loading resume text.
+ */
+public interface CandidateScoreView {
+    Long getId();
+    Long getRoleId();
+    Integer getTotalScore();
+}
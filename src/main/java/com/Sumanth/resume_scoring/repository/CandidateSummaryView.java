@@ -0,0 +1,18 @@
+package com.Sumanth.resume_scoring.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection holding only the columns of a candidate list row.
+ */
+public interface CandidateSummaryView {
+    Long getId();
+    String getName();
+    String getEmail();
+    Integer getTotalScore();
+    String getStatus();
+    String getExperienceLevel();
+    Long getRoleId();
+    String getRoleName();
+    LocalDateTime getCreatedAt();
+}
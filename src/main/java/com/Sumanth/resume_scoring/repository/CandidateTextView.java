@@ -0,0 +1,10 @@
+package com.Sumanth.resume_scoring.repository;
+
+/**
+ * Projection used by batch scoring so candidate rows are read without their relations.
+ */
+public interface CandidateTextView {
+    Long getId();
+    String getName();
+    String getResumeText();
+}
@@ -21,6 +21,10 @@ public interface JobRoleRepository extends JpaRepository<JobRole, Long> {
     @Query("SELECT j FROM JobRole j LEFT JOIN FETCH j.requiredSkills WHERE j.id = :id")
     Optional<JobRole> findByIdWithSkills(@Param("id") Long id);
 
+    // Batch Scoring: Active roles with skills preloaded so workers never lazy-load
+    @Query("SELECT DISTINCT j FROM JobRole j LEFT JOIN FETCH j.requiredSkills WHERE j.isActive = true")
+    List<JobRole> findActiveWithSkills();
+
     // Dashboard Analytics: Returns role names and count of candidates per role
     @Query("SELECT j.roleName, COUNT(c) FROM JobRole j LEFT JOIN Candidate c ON c.jobRole.id = j.id GROUP BY j.roleName")
     List<Object[]> getCandidateCountByRole();
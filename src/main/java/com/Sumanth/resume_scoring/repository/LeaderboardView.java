@@ -0,0 +1,13 @@
+package com.Sumanth.resume_scoring.repository;
+
+/**
+ * Projection used to refill a role's leaderboard without loading resume text.
+ */
+public interface LeaderboardView {
+    Long getId();
+    String getName();
+    String getEmail();
+    Integer getTotalScore();
+    String getStatus();
+    String getExperienceLevel();
+}
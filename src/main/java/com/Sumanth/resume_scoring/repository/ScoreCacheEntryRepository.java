@@ -0,0 +1,14 @@
+package com.Sumanth.resume_scoring.repository;
+
+import com.Sumanth.resume_scoring.entity.ScoreCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ScoreCacheEntryRepository extends JpaRepository<ScoreCacheEntry, Long> {
+
+    Optional<ScoreCacheEntry> findByContentHashAndRoleIdAndRoleVersionAndEngineVersion(
+            String contentHash, Long roleId, Long roleVersion, Integer engineVersion);
+}
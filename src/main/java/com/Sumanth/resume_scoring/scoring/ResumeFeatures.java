@@ -0,0 +1,78 @@
+package com.Sumanth.resume_scoring.scoring;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.BitSet;
+
+/**
+ * Immutable signals extracted from one resume in a single pass. Score,
+ * experience level and feedback are all derived from this object so the
+ * text is lowercased and scanned only once per upload.
+ */
+@Getter
+public final class ResumeFeatures {
+
+    public enum EducationTier {
+        DOCTORATE(100), MASTERS(90), BACHELORS(80), NONE(50);
+
+        private final int score;
+
+        EducationTier(int score) {
+            this.score = score;
+        }
+
+        public int getScore() {
+            return score;
+        }
+    }
+
+    private final String lowerText;
+    private final int length;
+    private final int maxYears;
+    private final EducationTier educationTier;
+    private final boolean emailPresent;
+    private final boolean phonePresent;
+
+    @Getter(AccessLevel.NONE)
+    private final BitSet matchedSkills;
+
+    private ResumeFeatures(String lowerText, int length, int maxYears, EducationTier educationTier,
+                           boolean emailPresent, boolean phonePresent, BitSet matchedSkills) {
+        this.lowerText = lowerText;
+        this.length = length;
+        this.maxYears = maxYears;
+        this.educationTier = educationTier;
+        this.emailPresent = emailPresent;
+        this.phonePresent = phonePresent;
+        this.matchedSkills = matchedSkills;
+    }
+
+    /**
+     * Extracts role-independent signals, plus matched skills when a matcher is given.
+     */
+    public static ResumeFeatures extract(String resumeText, SkillMatcher matcher) {
+        String text = resumeText == null ? "" : resumeText;
+        String lowerText = text.toLowerCase();
+        ResumeSignalScanner signals = ResumeSignalScanner.scan(text);
+        BitSet matched = matcher == null ? new BitSet() : matcher.match(lowerText);
+
+        return new ResumeFeatures(lowerText, text.length(), signals.getMaxYears(), signals.getEducationTier(),
+                signals.isEmailPresent(), signals.isPhonePresent(), matched);
+    }
+
+    /**
+     * Same text signals paired with skills matched elsewhere, e.g. one slice of a multi-role scan.
+     */
+    public ResumeFeatures withMatchedSkills(BitSet matched) {
+        return new ResumeFeatures(lowerText, length, maxYears, educationTier, emailPresent, phonePresent, matched);
+    }
+
+    public boolean isSkillMatched(int skillIndex) {
+        return matchedSkills.get(skillIndex);
+    }
+
+    public BitSet getMatchedSkills() {
+        return (BitSet) matchedSkills.clone();
+    }
+}
@@ -0,0 +1,190 @@
+package com.Sumanth.resume_scoring.scoring;
+
+import com.Sumanth.resume_scoring.scoring.ResumeFeatures.EducationTier;
+
+/**
+ * Hand-written single-pass scanner for the experience, education and contact
+ * signals that used to be found with several regexes and contains() scans.
+ * Every check at a position looks at a bounded window, so the scan is linear in
+ * the text length whatever its content, and it allocates nothing per token.
+ *
+ * <p>Results are identical to the former patterns:
+ * <ul>
+ *   <li>years: max of {@code (\d+)\+?\s*(years?|yrs?)} over the lowercased text</li>
+ *   <li>education: {@code phd|doctorate} &gt; {@code masters|m.tech|mba} &gt; {@code bachelor|b.tech|b.e}</li>
+ *   <li>email: {@code [a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,6}}</li>
+ *   <li>phone: {@code (\+?\d{1,3}[- ]?)?\(?\d{3}\)?[- ]?\d{3}[- ]?\d{4}}</li>
+ * </ul>
+ */
+public final class ResumeSignalScanner {
+
+    private int maxYears;
+    private EducationTier educationTier = EducationTier.NONE;
+    private boolean emailPresent;
+    private boolean phonePresent;
+
+    private ResumeSignalScanner() {
+    }
+
+    public static ResumeSignalScanner scan(CharSequence text) {
+        ResumeSignalScanner result = new ResumeSignalScanner();
+        result.run(text);
+        return result;
+    }
+
+    public int getMaxYears() {
+        return maxYears;
+    }
+
+    public EducationTier getEducationTier() {
+        return educationTier;
+    }
+
+    public boolean isEmailPresent() {
+        return emailPresent;
+    }
+
+    public boolean isPhonePresent() {
+        return phonePresent;
+    }
+
+    private void run(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+
+            if (isDigit(c)) {
+                if (!phonePresent && isPhoneAt(text, i)) phonePresent = true;
+
+                // Years are read from whole digit runs; a suffix of a run can never match where the run did not
+                int end = i + 1;
+                while (end < length && isDigit(text.charAt(end))) end++;
+                readYears(text, i, end);
+                if (phonePresent) {
+                    i = end;
+                    continue;
+                }
+                // Phone numbers may start anywhere inside the run, so step one digit at a time
+                i++;
+                while (i < end) {
+                    if (!phonePresent && isPhoneAt(text, i)) phonePresent = true;
+                    i++;
+                }
+                continue;
+            }
+
+            if (c == '@') {
+                if (!emailPresent && isEmailAt(text, i)) emailPresent = true;
+            } else if (educationTier != EducationTier.DOCTORATE) {
+                matchDegreeAt(text, i, Character.toLowerCase(c));
+            }
+            i++;
+        }
+    }
+
+    private void readYears(CharSequence text, int start, int end) {
+        int j = end;
+        int length = text.length();
+        if (j < length && text.charAt(j) == '+') j++;
+        while (j < length && isRegexSpace(text.charAt(j))) j++;
+        if (!startsWithIgnoreCase(text, j, "yr") && !startsWithIgnoreCase(text, j, "year")) return;
+
+        // Saturate instead of overflowing on absurd digit runs
+        long value = 0;
+        for (int k = start; k < end && value <= Integer.MAX_VALUE; k++) {
+            value = value * 10 + (text.charAt(k) - '0');
+        }
+        maxYears = (int) Math.max(maxYears, Math.min(value, Integer.MAX_VALUE));
+    }
+
+    private void matchDegreeAt(CharSequence text, int i, char lower) {
+        switch (lower) {
+            case 'p':
+                if (startsWithIgnoreCase(text, i, "phd")) raise(EducationTier.DOCTORATE);
+                break;
+            case 'd':
+                if (startsWithIgnoreCase(text, i, "doctorate")) raise(EducationTier.DOCTORATE);
+                break;
+            case 'm':
+                if (startsWithIgnoreCase(text, i, "masters") || startsWithIgnoreCase(text, i, "m.tech")
+                        || startsWithIgnoreCase(text, i, "mba")) raise(EducationTier.MASTERS);
+                break;
+            case 'b':
+                if (startsWithIgnoreCase(text, i, "bachelor") || startsWithIgnoreCase(text, i, "b.tech")
+                        || startsWithIgnoreCase(text, i, "b.e")) raise(EducationTier.BACHELORS);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void raise(EducationTier tier) {
+        if (tier.getScore() > educationTier.getScore()) educationTier = tier;
+    }
+
+    // local-part char before '@', then a domain run holding a '.' (not first) followed by two letters
+    private static boolean isEmailAt(CharSequence text, int at) {
+        if (at == 0 || !isEmailLocalChar(text.charAt(at - 1))) return false;
+        int length = text.length();
+        for (int k = at + 1; k < length && isDomainChar(text.charAt(k)); k++) {
+            if (k >= at + 2 && text.charAt(k) == '.' && k + 2 < length
+                    && isAsciiLetter(text.charAt(k + 1)) && isAsciiLetter(text.charAt(k + 2))) return true;
+        }
+        return false;
+    }
+
+    // \d{3}\)?[- ]?\d{3}[- ]?\d{4}; the optional prefix and '(' never change whether a match exists
+    private static boolean isPhoneAt(CharSequence text, int start) {
+        int p = digits(text, start, 3);
+        if (p < 0) return false;
+        if (p < text.length() && text.charAt(p) == ')') p++;
+        p = separator(text, p);
+        p = digits(text, p, 3);
+        if (p < 0) return false;
+        p = separator(text, p);
+        return digits(text, p, 4) >= 0;
+    }
+
+    private static int digits(CharSequence text, int from, int count) {
+        if (from + count > text.length()) return -1;
+        for (int k = from; k < from + count; k++) {
+            if (!isDigit(text.charAt(k))) return -1;
+        }
+        return from + count;
+    }
+
+    private static int separator(CharSequence text, int p) {
+        if (p < text.length() && (text.charAt(p) == '-' || text.charAt(p) == ' ')) return p + 1;
+        return p;
+    }
+
+    private static boolean startsWithIgnoreCase(CharSequence text, int from, String lowerKeyword) {
+        if (from + lowerKeyword.length() > text.length()) return false;
+        for (int k = 0; k < lowerKeyword.length(); k++) {
+            if (Character.toLowerCase(text.charAt(from + k)) != lowerKeyword.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '-';
+    }
+
+    // java.util.regex \s without UNICODE_CHARACTER_CLASS
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,37 @@
+package com.Sumanth.resume_scoring.scoring;
+
+import com.Sumanth.resume_scoring.entity.Candidate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of scoring one resume against one role, including the breakdown
+ * that lets weight or threshold edits be re-scored without the resume text.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ScoringResult {
+    private final int score;
+    private final String experienceLevel;
+
+    private final int skillScore;
+    // Bit i set when the role's i-th skill (ordered by id) was found
+    private final byte[] matchedSkills;
+    private final String skillSignature;
+    private final int experienceYears;
+    private final int educationScore;
+    private final int qualityScore;
+
+    public void applyTo(Candidate candidate) {
+        candidate.setTotalScore(score);
+        candidate.setExperienceLevel(experienceLevel);
+        candidate.setTechnicalScore(skillScore);
+        candidate.setSkillVector(matchedSkills);
+        candidate.setSkillSignature(skillSignature);
+        candidate.setExperienceYears(experienceYears);
+        candidate.setEducationScore(educationScore);
+        candidate.setQualityScore(qualityScore);
+    }
+}
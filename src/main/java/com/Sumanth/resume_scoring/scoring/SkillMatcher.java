@@ -0,0 +1,216 @@
+package com.Sumanth.resume_scoring.scoring;
+
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton over a role's skill names and comma-separated aliases.
+ * A single pass over the lowercased resume text reports every matched skill,
+ * using the same word-boundary rules as the {@code \b...\b} regex it replaces.
+ */
+public final class SkillMatcher {
+
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final int skillCount;
+    private final String signature;
+    private final int[] patternSkill;
+    private final int[] patternLength;
+
+    // Trie node transitions: sorted keys with parallel child indexes per node
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[][] outputs;
+
+    private SkillMatcher(int skillCount, String signature, List<String> patterns, List<Integer> skills) {
+        this.skillCount = skillCount;
+        this.signature = signature;
+        this.patternSkill = new int[patterns.size()];
+        this.patternLength = new int[patterns.size()];
+
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminal = new ArrayList<>();
+        trie.add(new HashMap<>());
+        terminal.add(new ArrayList<>());
+
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            patternSkill[p] = skills.get(p);
+            patternLength[p] = pattern.length();
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = trie.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    terminal.add(new ArrayList<>());
+                    trie.get(node).put(pattern.charAt(i), next);
+                }
+                node = next;
+            }
+            terminal.get(node).add(p);
+        }
+
+        int size = trie.size();
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        for (int n = 0; n < size; n++) {
+            Map<Character, Integer> edges = trie.get(n);
+            char[] keys = new char[edges.size()];
+            int k = 0;
+            for (Character c : edges.keySet()) keys[k++] = c;
+            Arrays.sort(keys);
+            int[] targets = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) targets[i] = edges.get(keys[i]);
+            edgeChars[n] = keys;
+            edgeTargets[n] = targets;
+        }
+
+        // Breadth-first construction of failure links; outputs inherit from the failure node
+        this.fail = new int[size];
+        this.outputs = new int[size][];
+        outputs[0] = toArray(terminal.get(0));
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            outputs[node] = merge(terminal.get(node), outputs[fail[node]]);
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int f = fail[node];
+                while (f != 0 && next(f, c) < 0) f = fail[f];
+                int target = next(f, c);
+                fail[child] = (target >= 0 && target != child) ? target : 0;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Compiles the skills in list order; bit {@code i} of {@link #match} refers to {@code skills.get(i)}.
+     */
+    public static SkillMatcher compile(List<RoleSkill> skills) {
+        List<String> patterns = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        StringBuilder signatureSource = new StringBuilder();
+        int count = skills == null ? 0 : skills.size();
+
+        for (int i = 0; i < count; i++) {
+            RoleSkill skill = skills.get(i);
+            signatureSource.append(skill.getId()).append('\u0000')
+                           .append(skill.getSkillName()).append('\u0000')
+                           .append(skill.getAliases()).append('\u0001');
+            addPattern(patterns, owners, skill.getSkillName(), i);
+            if (skill.getAliases() != null && !skill.getAliases().isEmpty()) {
+                for (String alias : skill.getAliases().split(",")) {
+                    addPattern(patterns, owners, alias.trim(), i);
+                }
+            }
+        }
+        return new SkillMatcher(count, fingerprint(signatureSource), patterns, owners);
+    }
+
+    // Weight and mandatory flags are left out: editing them never invalidates stored skill vectors
+    private static String fingerprint(CharSequence source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void addPattern(List<String> patterns, List<Integer> owners, String term, int skillIndex) {
+        if (term == null || term.isEmpty()) return;
+        patterns.add(term.toLowerCase());
+        owners.add(skillIndex);
+    }
+
+    public int getSkillCount() {
+        return skillCount;
+    }
+
+    /**
+     * Fingerprint of the compiled skills (ids, names and aliases in order).
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * Scans already-lowercased text once and returns the indexes of matched skills.
+     */
+    public BitSet match(String lowerText) {
+        BitSet matched = new BitSet(skillCount);
+        if (lowerText == null || patternSkill.length == 0) return matched;
+
+        int node = 0;
+        int length = lowerText.length();
+        for (int i = 0; i < length; i++) {
+            char c = lowerText.charAt(i);
+            int target = next(node, c);
+            while (target < 0 && node != 0) {
+                node = fail[node];
+                target = next(node, c);
+            }
+            node = target < 0 ? 0 : target;
+
+            for (int p : outputs[node]) {
+                int skill = patternSkill[p];
+                if (matched.get(skill)) continue;
+                int start = i - patternLength[p] + 1;
+                if (isBoundary(lowerText, start) && isBoundary(lowerText, i + 1)) {
+                    matched.set(skill);
+                }
+            }
+        }
+        return matched;
+    }
+
+    private int next(int node, char c) {
+        int idx = Arrays.binarySearch(edgeChars[node], c);
+        return idx < 0 ? -1 : edgeTargets[node][idx];
+    }
+
+    // Mirrors java.util.regex \b: a word character on exactly one side of the position
+    private static boolean isBoundary(String text, int index) {
+        boolean left = index > 0 && isWordChar(text.charAt(index - 1));
+        boolean right = index < text.length() && isWordChar(text.charAt(index));
+        return left != right;
+    }
+
+    private static boolean isWordChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) return NO_OUTPUTS;
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) result[i] = values.get(i);
+        return result;
+    }
+
+    private static int[] merge(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) return inherited;
+        int[] result = Arrays.copyOf(toArray(own), own.size() + inherited.length);
+        System.arraycopy(inherited, 0, result, own.size(), inherited.length);
+        return result;
+    }
+}
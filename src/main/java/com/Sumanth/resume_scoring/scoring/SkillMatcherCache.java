@@ -0,0 +1,53 @@
+package com.Sumanth.resume_scoring.scoring;
+
+import com.Sumanth.resume_scoring.entity.JobRole;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps one compiled {@link SkillMatcher} per role, keyed by role id and
+ * rebuilt whenever the role's updated-at version or skill count changes.
+ */
+public class SkillMatcherCache {
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public SkillMatcher get(JobRole role) {
+        int skillCount = role.getRequiredSkills() == null ? 0 : role.getRequiredSkills().size();
+
+        // Unsaved roles have no stable identity to cache against
+        if (role.getId() == null) {
+            return SkillMatcher.compile(role.getRequiredSkills());
+        }
+
+        Entry entry = entries.get(role.getId());
+        if (entry != null && entry.matches(role.getUpdatedAt(), skillCount)) {
+            return entry.matcher;
+        }
+
+        Entry fresh = new Entry(role.getUpdatedAt(), SkillMatcher.compile(role.getRequiredSkills()));
+        entries.put(role.getId(), fresh);
+        return fresh.matcher;
+    }
+
+    public void invalidate(Long roleId) {
+        if (roleId != null) entries.remove(roleId);
+    }
+
+    private static final class Entry {
+        private final LocalDateTime version;
+        private final SkillMatcher matcher;
+
+        private Entry(LocalDateTime version, SkillMatcher matcher) {
+            this.version = version;
+            this.matcher = matcher;
+        }
+
+        private boolean matches(LocalDateTime roleVersion, int skillCount) {
+            return Objects.equals(version, roleVersion) && matcher.getSkillCount() == skillCount;
+        }
+    }
+}
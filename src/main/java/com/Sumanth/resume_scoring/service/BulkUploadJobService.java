@@ -0,0 +1,559 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.response.BulkUploadItemDTO;
+import com.Sumanth.resume_scoring.dto.response.BulkUploadResponseDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
+import com.Sumanth.resume_scoring.exception.ServiceBusyException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Runs bulk uploads as background jobs. Files are written to storage while the
+ * request is still open (multipart parts do not outlive it), then scored through
+ * the ingest pool independently of the client, who polls progress by job id.
+ * Each job keeps a bounded number of files in flight so a batch uses several cores.
+ * ZIP archives are read entry by entry as the job runs instead of being unpacked up front.
+ */
+@Service
+public class BulkUploadJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkUploadJobService.class);
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private IngestExecutor ingestExecutor;
+
+    @Value("${bulk-upload.job-threads:2}")
+    private int jobThreads;
+
+    // 0 means one less than the ingest pool; never more than that, so single uploads keep a thread
+    @Value("${bulk-upload.parallelism:0}")
+    private int parallelism;
+
+    @Value("${bulk-upload.insert-batch-size:50}")
+    private int insertBatchSize;
+
+    @Value("${bulk-upload.zip.max-entries:10000}")
+    private int maxZipEntries;
+
+    @Value("${bulk-upload.zip.max-bytes:1073741824}")
+    private long maxZipBytes;
+
+    @Value("${pdf.max-file-bytes:20971520}")
+    private long maxFileBytes;
+
+    @Value("${bulk-upload.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, BulkJob> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService coordinator;
+
+    // Shared by all running jobs, so concurrent jobs together never fill the ingest pool
+    private Semaphore window;
+
+    @PostConstruct
+    void init() {
+        int limit = Math.max(1, ingestExecutor.getThreads() - 1);
+        parallelism = parallelism <= 0 ? limit : Math.min(parallelism, limit);
+        window = new Semaphore(parallelism);
+        coordinator = Executors.newFixedThreadPool(Math.max(1, jobThreads));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    public BulkUploadResponseDTO startJob(MultipartFile[] files, Long roleId) {
+        if (files == null || files.length == 0) {
+            throw new IllegalArgumentException("Please upload at least one file.");
+        }
+        jobRoleService.getRoleById(roleId);
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), roleId);
+        List<BulkItem> stored = new ArrayList<>(files.length);
+        for (MultipartFile file : files) {
+            BulkItem item = job.add(file.getOriginalFilename() != null ? file.getOriginalFilename() : "resume.pdf");
+            stored.add(item);
+            if (file.isEmpty()) {
+                item.fail("Empty file");
+                continue;
+            }
+            try {
+                item.filePath = fileStorageService.saveFile(file);
+            } catch (RuntimeException e) {
+                item.fail(e.getMessage());
+            }
+        }
+
+        Iterator<BulkItem> items = stored.iterator();
+        return launch(job, max -> {
+            List<BulkItem> chunk = new ArrayList<>(max);
+            while (chunk.size() < max && items.hasNext()) chunk.add(items.next());
+            return chunk;
+        }, () -> { });
+    }
+
+    /**
+     * Starts a job over the PDFs of a ZIP archive streamed from a request body. The archive is
+     * copied to storage (up to bulk-upload.zip.max-bytes) and its entries are read one by one
+     * while the job runs, each copied straight to storage, so memory use does not grow with the archive.
+     */
+    public BulkUploadResponseDTO startZipJob(InputStream archive, long contentLength, Long roleId) throws IOException {
+        if (contentLength > maxZipBytes) {
+            throw new IllegalArgumentException("Archive exceeds the " + maxZipBytes + " byte limit");
+        }
+        jobRoleService.getRoleById(roleId);
+        String archivePath = fileStorageService.saveStream(archive, "bulk-upload.zip", maxZipBytes);
+        if (Files.size(Paths.get(archivePath)) == 0) {
+            fileStorageService.deleteFile(archivePath);
+            throw new IllegalArgumentException("Please upload a valid ZIP archive.");
+        }
+        return startStoredZipJob(archivePath, roleId);
+    }
+
+    /**
+     * Starts a job over a ZIP archive already in storage; the archive is deleted once read.
+     */
+    public BulkUploadResponseDTO startStoredZipJob(String archivePath, Long roleId) {
+        jobRoleService.getRoleById(roleId);
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), roleId);
+        ZipInputStream zip;
+        try {
+            zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(Paths.get(archivePath))));
+        } catch (IOException e) {
+            fileStorageService.deleteFile(archivePath);
+            throw new RuntimeException("Could not read the archive: " + e.getMessage());
+        }
+
+        return launch(job, new ZipEntrySource(job, zip), () -> {
+            try {
+                zip.close();
+            } catch (IOException e) {
+                // Nothing left to read
+            }
+            fileStorageService.deleteFile(archivePath);
+        });
+    }
+
+    /**
+     * Starts a single-file job for a PDF already in storage.
+     */
+    public BulkUploadResponseDTO startStoredJob(String filePath, String fileName, Long roleId) {
+        jobRoleService.getRoleById(roleId);
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), roleId);
+        BulkItem item = job.add(fileName);
+        item.filePath = filePath;
+        List<BulkItem> pending = new ArrayList<>(List.of(item));
+        return launch(job, max -> {
+            List<BulkItem> chunk = new ArrayList<>(pending);
+            pending.clear();
+            return chunk;
+        }, () -> { });
+    }
+
+    private BulkUploadResponseDTO launch(BulkJob job, ItemSource source, Runnable cleanup) {
+        jobs.put(job.id, job);
+        coordinator.submit(() -> {
+            try {
+                run(job, source);
+            } finally {
+                cleanup.run();
+            }
+        });
+        return job.toDto();
+    }
+
+    public BulkUploadResponseDTO getStatus(String jobId) {
+        BulkJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Bulk upload job " + jobId + " not found");
+        }
+        return job.toDto();
+    }
+
+    private void run(BulkJob job, ItemSource source) {
+        job.state = "RUNNING";
+        String outcome = "FAILED";
+        try {
+            JobRole role = jobRoleService.getRoleWithSkills(job.roleId);
+
+            // Up to bulk-upload.parallelism files (across all jobs) are extracted and scored at once on the
+            // ingest pool, leaving the rest of the pool to single uploads; this thread keeps the window full and inserts
+            Queue<BulkItem> prepared = new ConcurrentLinkedQueue<>();
+            List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+            Set<String> claimedEmails = new HashSet<>();
+            int chunkSize = Math.max(1, insertBatchSize);
+
+            List<BulkItem> chunk;
+            while (!(chunk = source.next(chunkSize)).isEmpty()) {
+                rejectDuplicates(chunk, claimedEmails);
+                for (BulkItem item : chunk) {
+                    if (!"QUEUED".equals(item.status)) continue;
+                    window.acquire();
+                    CompletableFuture<Void> done;
+                    try {
+                        insertFullBatches(job, prepared, false);
+                        done = prepare(item, role, prepared);
+                    } catch (Exception e) {
+                        window.release();
+                        throw e;
+                    }
+                    done.whenComplete((ignored, error) -> window.release());
+                    inFlight.add(done);
+                }
+                inFlight.removeIf(CompletableFuture::isDone);
+            }
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).get();
+            insertFullBatches(job, prepared, true);
+
+            // Ranks settle only once every batch of the job is indexed
+            for (BulkItem item : job.snapshot()) {
+                if (item.candidateId != null) {
+                    item.rank = candidateService.getRankInRole(job.roleId, item.score);
+                }
+            }
+            outcome = "COMPLETED";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(job, "Server shutting down");
+        } catch (Exception e) {
+            log.error("Bulk upload job {} failed", job.id, e);
+            job.error = e.getMessage();
+            abandon(job, e.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            job.state = outcome;
+        }
+    }
+
+    // A ZIP of thousands of files would otherwise cost one existsByEmail round trip per entry
+    private void rejectDuplicates(List<BulkItem> chunk, Set<String> claimedEmails) {
+        Set<String> emails = new HashSet<>();
+        for (BulkItem item : chunk) {
+            // Bulk files carry no form fields, so name and email derive from the file name
+            item.name = item.fileName.replace(".pdf", "");
+            item.email = item.name.replaceAll("\\s", "").toLowerCase() + "@example.com";
+            if ("QUEUED".equals(item.status)) emails.add(item.email);
+        }
+
+        Set<String> registered = emails.isEmpty() ? Set.of() : candidateService.findRegisteredEmails(emails);
+        for (BulkItem item : chunk) {
+            if (!"QUEUED".equals(item.status)) continue;
+            // The first file of the job wins a shared email
+            if (registered.contains(item.email) || !claimedEmails.add(item.email)) {
+                fileStorageService.deleteFile(item.filePath);
+                item.fail("A candidate with this email is already registered.");
+            }
+        }
+    }
+
+    private CompletableFuture<Void> prepare(BulkItem item, JobRole role, Queue<BulkItem> prepared) throws InterruptedException {
+        return submitWhenAccepted(() -> {
+            item.status = "EXTRACTING";
+            return candidateService.prepareStoredCandidate(item.filePath, item.fileName, item.name, item.email, null, role);
+        }).handle((candidate, error) -> {
+            if (error == null) {
+                item.prepared = candidate;
+                prepared.add(item);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                fileStorageService.deleteFile(item.filePath);
+                item.fail(cause.getMessage());
+            }
+            return null;
+        });
+    }
+
+    private void insertFullBatches(BulkJob job, Queue<BulkItem> prepared, boolean includePartial) {
+        int batchSize = Math.max(1, insertBatchSize);
+        while (prepared.size() >= batchSize || (includePartial && !prepared.isEmpty())) {
+            List<BulkItem> batch = new ArrayList<>(batchSize);
+            BulkItem item;
+            while (batch.size() < batchSize && (item = prepared.poll()) != null) {
+                batch.add(item);
+            }
+            insert(job, batch);
+        }
+    }
+
+    // One transaction and one JDBC batch per batch of candidates; the rank index takes the whole
+    // batch under a single lock instead of once per file
+    private void insert(BulkJob job, List<BulkItem> batch) {
+        List<Candidate> candidates = new ArrayList<>(batch.size());
+        for (BulkItem item : batch) {
+            candidates.add(item.prepared);
+        }
+        List<Candidate> saved = new ArrayList<>(batch.size());
+        try {
+            List<Candidate> inserted = candidateService.saveCandidatesUnranked(candidates);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).scored(inserted.get(i));
+                saved.add(inserted.get(i));
+            }
+        } catch (RuntimeException e) {
+            // One bad row (e.g. an email registered meanwhile) rolls back the whole batch; retry row by row
+            for (BulkItem item : batch) {
+                item.prepared.setId(null);
+                try {
+                    Candidate inserted = candidateService.saveCandidatesUnranked(List.of(item.prepared)).get(0);
+                    item.scored(inserted);
+                    saved.add(inserted);
+                } catch (RuntimeException rowError) {
+                    fileStorageService.deleteFile(item.filePath);
+                    item.fail(rowError.getMessage());
+                }
+            }
+        }
+        candidateService.recordBatchRanks(job.roleId, saved);
+    }
+
+    // Background jobs wait for queue space instead of failing the file; interactive uploads still get a 503
+    private <T> CompletableFuture<T> submitWhenAccepted(Callable<T> task) throws InterruptedException {
+        while (true) {
+            try {
+                return ingestExecutor.submit(task);
+            } catch (ServiceBusyException e) {
+                TimeUnit.SECONDS.sleep(Math.max(1, e.getRetryAfterSeconds()));
+            }
+        }
+    }
+
+    private void abandon(BulkJob job, String reason) {
+        for (BulkItem item : job.snapshot()) {
+            if (!"SCORED".equals(item.status) && !"FAILED".equals(item.status)) {
+                fileStorageService.deleteFile(item.filePath);
+                item.fail(reason);
+            }
+        }
+    }
+
+    // Finished jobs stay queryable for bulk-upload.retention-minutes
+    @Scheduled(fixedDelayString = "${bulk-upload.purge-interval-ms:60000}")
+    void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @FunctionalInterface
+    private interface ItemSource {
+        // Next items of the job, at most max of them; empty once the source is exhausted
+        List<BulkItem> next(int max);
+    }
+
+    private final class ZipEntrySource implements ItemSource {
+        private final BulkJob job;
+        private final ZipInputStream zip;
+        private boolean exhausted;
+
+        private ZipEntrySource(BulkJob job, ZipInputStream zip) {
+            this.job = job;
+            this.zip = zip;
+        }
+
+        @Override
+        public List<BulkItem> next(int max) {
+            List<BulkItem> chunk = new ArrayList<>(max);
+            try {
+                while (!exhausted && chunk.size() < max) {
+                    ZipEntry entry = zip.getNextEntry();
+                    if (entry == null) {
+                        exhausted = true;
+                        break;
+                    }
+                    String entryName = entry.getName();
+                    String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+                    // Folders and archiver metadata (e.g. __MACOSX/._resume.pdf) are not resumes
+                    if (entry.isDirectory() || fileName.isEmpty() || fileName.startsWith(".") || entryName.startsWith("__MACOSX/")) {
+                        continue;
+                    }
+                    if (job.size() >= maxZipEntries) {
+                        throw new IllegalArgumentException("Archive holds more than " + maxZipEntries + " files");
+                    }
+
+                    BulkItem item = job.add(fileName);
+                    chunk.add(item);
+                    if (!fileName.toLowerCase().endsWith(".pdf")) {
+                        item.fail("Not a PDF file");
+                        continue;
+                    }
+                    try {
+                        // Entries can be up to pdf.max-file-bytes each, so copy them instead of buffering
+                        item.filePath = fileStorageService.saveStream(zip, fileName, maxFileBytes);
+                    } catch (IllegalArgumentException e) {
+                        item.fail(e.getMessage());
+                    } catch (IOException e) {
+                        item.fail(e.getMessage());
+                        throw e;
+                    }
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                // A corrupt or oversized archive stops further reading; entries already read still run
+                exhausted = true;
+                job.error = "Stopped reading the archive: " + e.getMessage();
+            }
+            return chunk;
+        }
+    }
+
+    private static final class BulkJob {
+        private final String id;
+        private final Long roleId;
+        // Guarded by itself: ZIP jobs keep adding entries while status polls read them
+        private final List<BulkItem> items = new ArrayList<>();
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile String state = "QUEUED";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private BulkJob(String id, Long roleId) {
+            this.id = id;
+            this.roleId = roleId;
+        }
+
+        private BulkItem add(String fileName) {
+            BulkItem item = new BulkItem(fileName);
+            synchronized (items) {
+                items.add(item);
+            }
+            return item;
+        }
+
+        private int size() {
+            synchronized (items) {
+                return items.size();
+            }
+        }
+
+        private List<BulkItem> snapshot() {
+            synchronized (items) {
+                return new ArrayList<>(items);
+            }
+        }
+
+        private BulkUploadResponseDTO toDto() {
+            List<BulkItem> current = snapshot();
+            List<BulkUploadItemDTO> results = new ArrayList<>(current.size());
+            List<String> failures = new ArrayList<>();
+            int pending = 0;
+            int scored = 0;
+            for (BulkItem item : current) {
+                BulkUploadItemDTO dto = item.toDto();
+                results.add(dto);
+                switch (dto.getStatus()) {
+                    case "SCORED" -> scored++;
+                    case "FAILED" -> failures.add(dto.getFileName() + ": " + dto.getError());
+                    default -> pending++;
+                }
+            }
+
+            return BulkUploadResponseDTO.builder()
+                    .jobId(id)
+                    .roleId(roleId)
+                    .state(state)
+                    .totalUploaded(current.size())
+                    .pendingCount(pending)
+                    .successCount(scored)
+                    .failedCount(failures.size())
+                    .failedEmails(failures)
+                    .results(results)
+                    .createdAt(createdAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+
+    private static final class BulkItem {
+        private final String fileName;
+        private volatile String filePath;
+        private String name;
+        private String email;
+        private volatile Candidate prepared;
+        private volatile String status = "QUEUED";
+        // Only the reported fields are kept once saved, so finished files do not pin their resume text
+        private volatile Long candidateId;
+        private volatile Integer score;
+        private volatile String experienceLevel;
+        private volatile Integer rank;
+        private volatile String error;
+
+        private BulkItem(String fileName) {
+            this.fileName = fileName;
+        }
+
+        private void scored(Candidate saved) {
+            this.candidateId = saved.getId();
+            this.score = saved.getTotalScore();
+            this.experienceLevel = saved.getExperienceLevel();
+            this.prepared = null;
+            this.status = "SCORED";
+        }
+
+        private void fail(String reason) {
+            this.error = reason;
+            this.prepared = null;
+            this.status = "FAILED";
+        }
+
+        private BulkUploadItemDTO toDto() {
+            // Read the status first so a SCORED item is never reported without its candidate
+            String current = status;
+            return BulkUploadItemDTO.builder()
+                    .fileName(fileName)
+                    .status(current)
+                    .candidateId(candidateId)
+                    .score(score)
+                    .rank(rank)
+                    .experienceLevel(experienceLevel)
+                    .error(error)
+                    .build();
+        }
+    }
+}
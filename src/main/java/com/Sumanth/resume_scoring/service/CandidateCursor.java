@@ -0,0 +1,50 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.repository.CandidateSummaryView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Continuation token for keyset listing: the sort key and id of the last row
+ * returned, Base64url-encoded so clients treat it as opaque. A null score is
+ * encoded as an empty key.
+ */
+final class CandidateCursor {
+
+    static final String SORT_SCORE = "score";
+    static final String SORT_CREATED = "created";
+
+    final Integer score;
+    final LocalDateTime createdAt;
+    final Long id;
+
+    private CandidateCursor(Integer score, LocalDateTime createdAt, Long id) {
+        this.score = score;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    static String encode(String sort, CandidateSummaryView last) {
+        Object key = SORT_CREATED.equals(sort) ? last.getCreatedAt() : last.getTotalScore();
+        String raw = sort + "|" + (key == null ? "" : key) + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CandidateCursor decode(String token, String sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(sort)) {
+                throw new IllegalArgumentException("cursor belongs to a different sort order");
+            }
+            Long id = Long.valueOf(parts[2]);
+            return SORT_CREATED.equals(sort)
+                    ? new CandidateCursor(null, LocalDateTime.parse(parts[1]), id)
+                    : new CandidateCursor(parts[1].isEmpty() ? null : Integer.valueOf(parts[1]), null, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + e.getMessage());
+        }
+    }
+}
@@ -2,17 +2,31 @@ package com.Sumanth.resume_scoring.service;
 
 import com.Sumanth.resume_scoring.dto.CandidateMapper;
 import com.Sumanth.resume_scoring.dto.response.CandidateDetailDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidatePageDTO;
 import com.Sumanth.resume_scoring.dto.response.CandidateResponseDTO;
 import com.Sumanth.resume_scoring.entity.Candidate;
 import com.Sumanth.resume_scoring.entity.JobRole;
 import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
 import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import com.Sumanth.resume_scoring.repository.CandidateSummaryView;
+import com.Sumanth.resume_scoring.scoring.ScoringResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,10 +42,25 @@ public class CandidateService {
     private PdfExtractionService pdfExtractionService;
 
     @Autowired
-    private ScoringEngineService scoringEngineService;
+    private FileStorageService fileStorageService;
 
     @Autowired
-    private FileStorageService fileStorageService;
+    private ScoreCacheService scoreCacheService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Value("${candidates.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${candidates.page.max-size:200}")
+    private int maxPageSize;
 
     public boolean emailExists(String email) {
         return candidateRepository.existsByEmail(email);
@@ -39,64 +68,144 @@ public class CandidateService {
 
     @Transactional
     public Candidate saveAndProcessCandidate(MultipartFile file, String name, String email, String phone, Long roleId) throws Exception {
-        JobRole role = jobRoleService.getRoleById(roleId);
+        Candidate savedCandidate = createCandidate(file, name, email, phone, roleId);
+        // The insert is flushed on commit; after a timeout this rolls it back instead
+        IngestExecutor.claimCompletion();
+        // Only this candidate's histogram bucket moves; no other candidate's rank is rewritten
+        rankingService.recordScore(roleId, savedCandidate.getId(), savedCandidate.getTotalScore());
+        leaderboardService.record(savedCandidate);
+        return savedCandidate;
+    }
+
+    /**
+     * Extracts and scores an upload that was already written to storage without saving it,
+     * so bulk jobs can insert many candidates per transaction through {@link #saveCandidatesUnranked}.
+     * The role should come from {@link JobRoleService#getRoleWithSkills} as no session is open here.
+     */
+    public Candidate prepareStoredCandidate(String filePath, String fileName, String name, String email, String phone, JobRole role) throws IOException {
+        return buildCandidate(filePath, fileName, name, email, phone, role);
+    }
+
+    /**
+     * Inserts prepared candidates in one transaction without touching the rank index;
+     * bulk jobs record the whole batch once through {@link #recordBatchRanks}.
+     */
+    @Transactional
+    public List<Candidate> saveCandidatesUnranked(List<Candidate> candidates) {
+        // Hibernate can only batch these inserts because ids come from candidate_seq, not IDENTITY
+        return candidateRepository.saveAll(candidates);
+    }
+
+    /**
+     * Returns which of the given emails are already registered, in one query per thousand emails.
+     */
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        Set<String> registered = new HashSet<>();
+        List<String> all = new ArrayList<>(emails);
+        for (int from = 0; from < all.size(); from += 1000) {
+            registered.addAll(candidateRepository.findEmailsIn(all.subList(from, Math.min(all.size(), from + 1000))));
+        }
+        return registered;
+    }
+
+    public void recordBatchRanks(Long roleId, List<Candidate> candidates) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            scores.put(candidate.getId(), candidate.getTotalScore());
+            leaderboardService.record(candidate);
+        }
+        rankingService.recordScores(roleId, scores);
+    }
 
-        String resumeText = pdfExtractionService.extractTextFromPDF(file);
+    private Candidate createCandidate(MultipartFile file, String name, String email, String phone, Long roleId) throws Exception {
+        // PDFBox reads the stored file directly, so the upload is not also copied onto the heap
         String filePath = fileStorageService.saveFile(file);
-        
-        int score = scoringEngineService.calculateAdvancedScore(resumeText, role);
-        String experienceLevel = scoringEngineService.detectExperienceLevel(resumeText);
-        String feedback = scoringEngineService.generateDetailedFeedback(resumeText, role);
+        fileStorageService.deleteOnRollback(filePath);
+        JobRole role = jobRoleService.getRoleById(roleId);
+        return candidateRepository.save(buildCandidate(filePath, file.getOriginalFilename(), name, email, phone, role));
+    }
+
+    private Candidate buildCandidate(String filePath, String fileName, String name, String email, String phone, JobRole role) throws IOException {
+        String resumeText;
+        try {
+            resumeText = pdfExtractionService.extractTextFromPDF(Paths.get(filePath));
+        } catch (IOException e) {
+            // Checked exceptions do not roll back, so clean up unreadable uploads here
+            fileStorageService.deleteFile(filePath);
+            throw e;
+        }
+
+        ScoringResult result = scoreCacheService.evaluate(resumeText, role);
 
         Candidate candidate = new Candidate();
         candidate.setName(name);
         candidate.setEmail(email);
         candidate.setPhoneNumber(phone);
-        candidate.setFileName(file.getOriginalFilename());
+        candidate.setFileName(fileName);
         candidate.setFilePath(filePath);
         candidate.setResumeText(resumeText);
-        candidate.setTotalScore(score);
-        candidate.setFeedback(feedback);
         candidate.setJobRole(role);
-        candidate.setExperienceLevel(experienceLevel);
+        result.applyTo(candidate);
         candidate.setStatus("NEW");
+        return candidate;
+    }
 
-        Candidate savedCandidate = candidateRepository.save(candidate);
-        updateRankings(roleId);
-        return savedCandidate;
+    public Integer getRankInRole(Candidate candidate) {
+        return rankingService.rankOf(candidate);
     }
 
-    @Transactional
-    public void updateRankings(Long roleId) {
-        List<Candidate> candidates = candidateRepository.findByJobRoleIdOrderByTotalScoreDesc(roleId);
-        for (int i = 0; i < candidates.size(); i++) {
-            candidates.get(i).setRankInRole(i + 1);
-        }
-        candidateRepository.saveAll(candidates);
+    public Integer getRankInRole(Long roleId, Integer score) {
+        return rankingService.rankOf(roleId, score);
     }
 
-    public List<CandidateResponseDTO> searchCandidates(Long roleId, String status, Integer minScore, String keyword) {
-        return candidateRepository.searchCandidates(roleId, status, minScore, keyword).stream()
-                .map(CandidateMapper::toResponseDto)
-                .collect(Collectors.toList());
+    /**
+     * One page of matching candidates, best score first ("score") or newest first ("created").
+     * Pages are read by keyset from the cursor, so page 1000 costs the same as page 1.
+     */
+    public CandidatePageDTO searchCandidates(Long roleId, String status, Integer minScore, String keyword,
+                                             String sort, String cursor, Integer limit) {
+        String order = sort == null ? CandidateCursor.SORT_SCORE : sort.toLowerCase();
+        if (!CandidateCursor.SORT_SCORE.equals(order) && !CandidateCursor.SORT_CREATED.equals(order)) {
+            throw new IllegalArgumentException("Sort must be 'score' or 'created'.");
+        }
+        int size = limit == null ? defaultPageSize : Math.min(Math.max(1, limit), maxPageSize);
+        CandidateCursor after = cursor == null || cursor.isEmpty() ? null : CandidateCursor.decode(cursor, order);
+
+        // One extra row tells whether another page follows, without a count query
+        Pageable window = PageRequest.of(0, size + 1);
+        List<CandidateSummaryView> rows = CandidateCursor.SORT_CREATED.equals(order)
+                ? candidateRepository.searchByCreatedAt(roleId, status, minScore, keyword,
+                        after != null ? after.createdAt : null, after != null ? after.id : null, window)
+                : candidateRepository.searchByScore(roleId, status, minScore, keyword,
+                        after != null ? after.score : null, after != null ? after.id : null, window);
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+        return CandidatePageDTO.builder()
+                .items(rows.stream().map(this::toSummaryDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? CandidateCursor.encode(order, rows.get(rows.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
     }
 
-    public List<CandidateResponseDTO> getAllCandidates() {
-        return candidateRepository.findAll().stream()
-                .map(CandidateMapper::toResponseDto)
-                .collect(Collectors.toList());
+    public CandidatePageDTO getAllCandidates(String cursor, Integer limit) {
+        return searchCandidates(null, null, null, null, CandidateCursor.SORT_SCORE, cursor, limit);
     }
 
     public List<CandidateResponseDTO> getCandidatesByRole(Long roleId) {
         return candidateRepository.findByJobRoleIdOrderByTotalScoreDesc(roleId).stream()
-                .map(CandidateMapper::toResponseDto)
+                .map(this::toSummaryDto)
                 .collect(Collectors.toList());
     }
 
+    // Read-only transaction so the lazily loaded resume text can be read for the detail view
+    @Transactional(readOnly = true)
     public CandidateDetailDTO getCandidateDetail(Long id) {
         Candidate candidate = candidateRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate with ID " + id + " not found"));
-        return CandidateMapper.toDetailDto(candidate);
+        return CandidateMapper.toDetailDto(candidate, rankingService.rankOf(candidate), feedbackService.getFeedback(candidate));
     }
 
     @Transactional
@@ -104,22 +213,30 @@ public class CandidateService {
         Candidate candidate = candidateRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate with ID " + id + " not found"));
         candidate.setStatus(status);
-        return CandidateMapper.toResponseDto(candidateRepository.save(candidate));
+        candidate = candidateRepository.save(candidate);
+        leaderboardService.record(candidate);
+        return toResponseDto(candidate);
     }
 
     @Transactional
     public void deleteCandidate(Long id) {
-        if (!candidateRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Candidate with ID " + id + " not found");
+        Candidate candidate = candidateRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate with ID " + id + " not found"));
+        candidateRepository.delete(candidate);
+        if (candidate.getFilePath() != null) {
+            pdfExtractionService.evictCachedText(Paths.get(candidate.getFilePath()));
+        }
+        if (candidate.getJobRole() != null) {
+            rankingService.removeCandidate(candidate.getJobRole().getId(), id);
+            leaderboardService.remove(candidate.getJobRole().getId(), id);
         }
-        candidateRepository.deleteById(id);
     }
 
     public String exportCandidatesToCsv() {
-        List<Candidate> candidates = candidateRepository.findAll();
+        List<CandidateSummaryView> candidates = candidateRepository.findAllSummaries();
         StringBuilder csv = new StringBuilder("ID,Name,Email,Role,Score,Status,Experience\n");
-        for (Candidate c : candidates) {
-            String roleName = c.getJobRole() != null ? c.getJobRole().getRoleName() : "N/A";
+        for (CandidateSummaryView c : candidates) {
+            String roleName = c.getRoleName() != null ? c.getRoleName() : "N/A";
             csv.append(c.getId()).append(",")
                .append(c.getName()).append(",")
                .append(c.getEmail()).append(",")
@@ -139,17 +256,22 @@ public class CandidateService {
         JobRole role = candidate.getJobRole();
         if (role == null) throw new IllegalArgumentException("Cannot reanalyze candidate without a job role");
 
-        int score = scoringEngineService.calculateAdvancedScore(candidate.getResumeText(), role);
-        String experienceLevel = scoringEngineService.detectExperienceLevel(candidate.getResumeText());
-        String feedback = scoringEngineService.generateDetailedFeedback(candidate.getResumeText(), role);
+        ScoringResult result = scoreCacheService.evaluate(candidate.getResumeText(), role);
 
-        candidate.setTotalScore(score);
-        candidate.setExperienceLevel(experienceLevel);
-        candidate.setFeedback(feedback);
+        result.applyTo(candidate);
 
         candidate = candidateRepository.save(candidate);
-        updateRankings(role.getId());
+        rankingService.recordScore(role.getId(), candidate.getId(), candidate.getTotalScore());
+        leaderboardService.record(candidate);
+
+        return toResponseDto(candidate);
+    }
+
+    private CandidateResponseDTO toResponseDto(Candidate candidate) {
+        return CandidateMapper.toResponseDto(candidate, rankingService.rankOf(candidate));
+    }
 
-        return CandidateMapper.toResponseDto(candidate);
+    private CandidateResponseDTO toSummaryDto(CandidateSummaryView candidate) {
+        return CandidateMapper.toResponseDto(candidate, rankingService.rankOf(candidate.getRoleId(), candidate.getTotalScore()));
     }
 }
@@ -0,0 +1,279 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.UploadSessionRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.BulkUploadResponseDTO;
+import com.Sumanth.resume_scoring.dto.response.UploadSessionDTO;
+import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Resumable uploads for large files over unreliable links. A client opens a session,
+ * PUTs fixed-size chunks at their offsets in any order (after a dropped connection only
+ * the missing ones), then completes it. Each chunk is written straight into a staging
+ * file with positional writes, so memory stays flat whatever the file size, and the
+ * completed file (a PDF or a ZIP of PDFs) runs as a bulk upload job.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private BulkUploadJobService bulkUploadJobService;
+
+    @Value("${upload.chunk.size-bytes:5242880}")
+    private long chunkSize;
+
+    @Value("${upload.session.max-bytes:1073741824}")
+    private long maxBytes;
+
+    @Value("${upload.session.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${upload.staging-dir:${upload.dir:uploads}/staging}")
+    private String stagingDir;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public UploadSessionDTO createSession(UploadSessionRequestDTO request) {
+        String fileName = request.getFileName();
+        if (fileName == null || !(fileName.toLowerCase().endsWith(".pdf") || fileName.toLowerCase().endsWith(".zip"))) {
+            throw new IllegalArgumentException("Only .pdf and .zip files can be uploaded.");
+        }
+        if (request.getTotalSize() == null || request.getTotalSize() <= 0 || request.getTotalSize() > maxBytes) {
+            throw new IllegalArgumentException("File size must be between 1 and " + maxBytes + " bytes.");
+        }
+        jobRoleService.getRoleById(request.getRoleId());
+
+        String id = UUID.randomUUID().toString();
+        Path stagingFile;
+        try {
+            Files.createDirectories(Paths.get(stagingDir));
+            stagingFile = Files.createFile(Paths.get(stagingDir).resolve(id + ".part"));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create the upload session: " + e.getMessage());
+        }
+
+        UploadSession session = new UploadSession(id, fileName, request.getRoleId(), request.getTotalSize(), chunkSize, stagingFile);
+        sessions.put(id, session);
+        return session.toDto(ttlMinutes);
+    }
+
+    public UploadSessionDTO getSession(String sessionId) {
+        return find(sessionId).toDto(ttlMinutes);
+    }
+
+    /**
+     * Writes one chunk at its offset. Resending a chunk overwrites it; a chunk only
+     * counts as received once all of its bytes are on disk.
+     */
+    public UploadSessionDTO writeChunk(String sessionId, long offset, InputStream body) throws IOException {
+        UploadSession session = find(sessionId);
+        // Chunks of one session may be written concurrently, but never while it is being completed
+        session.lock.readLock().lock();
+        try {
+            if (session.jobId != null) {
+                throw new IllegalArgumentException("Upload session is already completed.");
+            }
+            if (offset < 0 || offset >= session.totalSize || offset % session.chunkSize != 0) {
+                throw new IllegalArgumentException("Offset must be a multiple of " + session.chunkSize + " below " + session.totalSize + ".");
+            }
+            int index = (int) (offset / session.chunkSize);
+            long expected = Math.min(session.chunkSize, session.totalSize - offset);
+
+            // Chunks default to 5 MB and many sessions can upload at once, so copy through one small buffer
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(session.stagingFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+                int read;
+                // Ask for one byte more than the chunk needs so an oversized body is noticed
+                while ((read = body.read(buffer.array(), 0, (int) Math.min(COPY_BUFFER_BYTES, expected - written + 1))) != -1) {
+                    if (written + read > expected) {
+                        throw new IllegalArgumentException("Chunk " + index + " must be exactly " + expected + " bytes.");
+                    }
+                    buffer.clear().limit(read);
+                    while (buffer.hasRemaining()) {
+                        written += channel.write(buffer, offset + written);
+                    }
+                }
+            }
+            if (written != expected) {
+                throw new IllegalArgumentException("Chunk " + index + " was incomplete: received " + written + " of " + expected + " bytes.");
+            }
+
+            session.markReceived(index);
+            return session.toDto(ttlMinutes);
+        } finally {
+            session.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Hands the assembled file to a bulk upload job once every chunk has arrived.
+     */
+    public BulkUploadResponseDTO complete(String sessionId) throws IOException {
+        UploadSession session = find(sessionId);
+        session.lock.writeLock().lock();
+        try {
+            if (session.jobId != null) {
+                return bulkUploadJobService.getStatus(session.jobId);
+            }
+            int missing = session.missingChunks().size();
+            if (missing > 0) {
+                throw new IllegalArgumentException("Upload is missing " + missing + " chunk(s).");
+            }
+
+            String storedPath = fileStorageService.moveIntoStorage(session.stagingFile, session.fileName);
+            BulkUploadResponseDTO job;
+            try {
+                job = session.fileName.toLowerCase().endsWith(".zip")
+                        ? bulkUploadJobService.startStoredZipJob(storedPath, session.roleId)
+                        : bulkUploadJobService.startStoredJob(storedPath, session.fileName, session.roleId);
+            } catch (RuntimeException e) {
+                restoreStagingFile(session, storedPath, e);
+                throw e;
+            }
+            session.jobId = job.getJobId();
+            session.touch();
+            return job;
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    // Puts the assembled file back so completing can be retried; if it is gone the session is dropped
+    private void restoreStagingFile(UploadSession session, String storedPath, RuntimeException failure) {
+        try {
+            Files.move(Paths.get(storedPath), session.stagingFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+            fileStorageService.deleteFile(storedPath);
+            sessions.remove(session.id);
+        }
+    }
+
+    public void cancel(String sessionId) {
+        UploadSession session = sessions.remove(sessionId);
+        if (session == null) {
+            throw new ResourceNotFoundException("Upload session " + sessionId + " not found");
+        }
+        if (session.jobId == null) {
+            fileStorageService.deleteFile(session.stagingFile.toString());
+        }
+    }
+
+    private UploadSession find(String sessionId) {
+        UploadSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new ResourceNotFoundException("Upload session " + sessionId + " not found");
+        }
+        return session;
+    }
+
+    // Sessions idle for longer than the TTL are dropped together with their partial files;
+    // a session busy with a chunk or completion is left for the next run
+    @Scheduled(fixedDelayString = "${upload.session.purge-interval-ms:300000}")
+    void purgeExpiredSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(ttlMinutes);
+        sessions.values().removeIf(session -> {
+            if (!session.lastActivity.isBefore(cutoff) || !session.lock.writeLock().tryLock()) return false;
+            try {
+                if (session.jobId == null) {
+                    fileStorageService.deleteFile(session.stagingFile.toString());
+                }
+                return true;
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private static final class UploadSession {
+        private final String id;
+        private final String fileName;
+        private final Long roleId;
+        private final long totalSize;
+        private final long chunkSize;
+        private final int totalChunks;
+        private final Path stagingFile;
+        private final BitSet received = new BitSet();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile String jobId;
+        private volatile LocalDateTime lastActivity = LocalDateTime.now();
+
+        private UploadSession(String id, String fileName, Long roleId, long totalSize, long chunkSize, Path stagingFile) {
+            this.id = id;
+            this.fileName = fileName;
+            this.roleId = roleId;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.totalChunks = (int) ((totalSize + chunkSize - 1) / chunkSize);
+            this.stagingFile = stagingFile;
+        }
+
+        private void markReceived(int index) {
+            synchronized (received) {
+                received.set(index);
+            }
+            touch();
+        }
+
+        private void touch() {
+            lastActivity = LocalDateTime.now();
+        }
+
+        private List<Integer> missingChunks() {
+            List<Integer> missing = new ArrayList<>();
+            synchronized (received) {
+                for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+                    missing.add(i);
+                }
+            }
+            return missing;
+        }
+
+        private UploadSessionDTO toDto(long ttlMinutes) {
+            List<Integer> missing = missingChunks();
+            return UploadSessionDTO.builder()
+                    .sessionId(id)
+                    .fileName(fileName)
+                    .roleId(roleId)
+                    .totalSize(totalSize)
+                    .chunkSize(chunkSize)
+                    .totalChunks(totalChunks)
+                    .receivedChunks(totalChunks - missing.size())
+                    .missingChunks(missing)
+                    .jobId(jobId)
+                    .expiresAt(lastActivity.plusMinutes(ttlMinutes))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.cache.LruCache;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds candidate feedback only when the detail view asks for it. Text is
+ * derived from the stored skill vector and keyed by the role version, so a
+ * role edit yields fresh feedback instead of a stale persisted string.
+ */
+@Service
+public class FeedbackService {
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Value("${scoring.feedback.cache-size:2000}")
+    private int cacheSize;
+
+    private LruCache<Key, String> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new LruCache<>(cacheSize);
+    }
+
+    public String getFeedback(Candidate candidate) {
+        JobRole role = candidate.getJobRole();
+        if (role == null) return "";
+
+        Key key = new Key(candidate.getId(), role.getId(), ScoreCacheService.roleVersion(role), candidate.getSkillSignature());
+        String feedback = cache.get(key);
+        if (feedback == null) {
+            feedback = scoringEngineService.generateFeedback(candidate, role);
+            cache.put(key, feedback);
+        }
+        return feedback;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final Long candidateId;
+        private final Long roleId;
+        private final long roleVersion;
+        private final String skillSignature;
+    }
+}
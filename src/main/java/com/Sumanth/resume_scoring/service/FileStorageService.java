@@ -2,9 +2,13 @@ package com.Sumanth.resume_scoring.service;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -27,20 +31,85 @@ public class FileStorageService {
     public String saveFile(MultipartFile file) {
         try {
             init();
-            String originalFileName = file.getOriginalFilename();
-            String extension = "";
-            if (originalFileName != null && originalFileName.contains(".")) {
-                extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-            }
-            String fileName = UUID.randomUUID().toString() + extension;
-            Path root = Paths.get(uploadDir);
-            Files.copy(file.getInputStream(), root.resolve(fileName));
-            return root.resolve(fileName).toString();
+            Path target = newStoredPath(file.getOriginalFilename());
+            // transferTo moves an already spooled part into place (or writes an in-memory part once);
+            // it must be absolute or the container resolves it against its temp dir
+            file.transferTo(target.toAbsolutePath().toFile());
+            return target.toString();
         } catch (Exception e) {
             throw new RuntimeException("Could not store the file. Error: " + e.getMessage());
         }
     }
 
+    /**
+     * Copies a stream (e.g. one archive entry) into storage through a small buffer, failing
+     * once more than {@code maxBytes} arrive. The stream is left open for the caller.
+     */
+    public String saveStream(InputStream in, String originalFileName, long maxBytes) throws IOException {
+        init();
+        Path target = newStoredPath(originalFileName);
+        try (OutputStream out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[8192];
+            long written = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                written += read;
+                if (written > maxBytes) {
+                    throw new IllegalArgumentException("File exceeds the " + maxBytes + " byte limit");
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteFile(target.toString());
+            throw e;
+        }
+        return target.toString();
+    }
+
+    /**
+     * Moves a file assembled elsewhere on the same volume (e.g. a staged chunked upload) into storage.
+     */
+    public String moveIntoStorage(Path source, String originalFileName) throws IOException {
+        init();
+        Path target = newStoredPath(originalFileName);
+        Files.move(source, target);
+        return target.toString();
+    }
+
+    private Path newStoredPath(String originalFileName) {
+        String extension = "";
+        if (originalFileName != null && originalFileName.contains(".")) {
+            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        }
+        return Paths.get(uploadDir).resolve(UUID.randomUUID().toString() + extension);
+    }
+
+    /**
+     * Removes a stored upload whose candidate was never saved.
+     */
+    public void deleteFile(String filePath) {
+        try {
+            Files.deleteIfExists(Paths.get(filePath));
+        } catch (IOException e) {
+            // Best effort: an orphaned upload is harmless
+        }
+    }
+
+    /**
+     * Deletes the stored upload if the current transaction rolls back.
+     */
+    public void deleteOnRollback(String filePath) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteFile(filePath);
+                }
+            }
+        });
+    }
+
     public Path loadFile(String filePath) {
         try {
             Path file = Paths.get(filePath);
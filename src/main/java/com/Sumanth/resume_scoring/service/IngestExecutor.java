@@ -0,0 +1,142 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs PDF extraction and scoring off the servlet threads on a fixed pool with
+ * a bounded queue. A full queue fails fast with {@link ServiceBusyException}
+ * (503 + Retry-After) and each task is cancelled once it has run longer than
+ * {@code ingest.timeout-ms}, so a burst of uploads never starves read endpoints.
+ * Tasks that persist work call {@link #claimCompletion()} before committing, so a
+ * timed-out task rolls back instead of saving after its caller was told it failed.
+ */
+@Service
+public class IngestExecutor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 means one thread per available processor, at least two
+    @Value("${ingest.threads:0}")
+    private int threads;
+
+    @Value("${ingest.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${ingest.timeout-ms:60000}")
+    private long timeoutMs;
+
+    @Value("${ingest.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    // Per running task: set once by whichever comes first, the timeout or the task's commit
+    private static final ThreadLocal<AtomicBoolean> SETTLED = new ThreadLocal<>();
+
+    private ThreadPoolExecutor workers;
+    private ScheduledExecutorService timeouts;
+    private Counter rejected;
+    private Counter timedOut;
+
+    @PostConstruct
+    void init() {
+        if (threads <= 0) {
+            threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> new Thread(r, "ingest-" + threadIndex.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        timeouts = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ingest-timeouts");
+            t.setDaemon(true);
+            return t;
+        });
+
+        rejected = Counter.builder("ingest.tasks.rejected").register(meterRegistry);
+        timedOut = Counter.builder("ingest.tasks.timed.out").register(meterRegistry);
+        Gauge.builder("ingest.queue.size", workers, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("ingest.active", workers, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+        timeouts.shutdownNow();
+    }
+
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<Future<?>> handle = new AtomicReference<>();
+
+        AtomicBoolean settled = new AtomicBoolean();
+
+        Runnable body = () -> {
+            // The clock starts when the task starts running, not while it waits in the queue
+            ScheduledFuture<?> timer = timeouts.schedule(() -> {
+                if (settled.compareAndSet(false, true)
+                        && result.completeExceptionally(new TimeoutException("Resume processing exceeded " + timeoutMs + " ms"))) {
+                    timedOut.increment();
+                    Future<?> running = handle.get();
+                    if (running != null) running.cancel(true);
+                }
+            }, timeoutMs, TimeUnit.MILLISECONDS);
+            SETTLED.set(settled);
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                SETTLED.remove();
+                timer.cancel(false);
+            }
+        };
+
+        try {
+            handle.set(workers.submit(body));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many resumes are being processed, please retry shortly", retryAfterSeconds);
+        }
+        return result;
+    }
+
+    /**
+     * Called by a running task just before its transaction commits. Throws (so the transaction
+     * rolls back) if the task has already timed out; otherwise the timeout can no longer fire.
+     * Does nothing outside the ingest pool.
+     */
+    public static void claimCompletion() {
+        AtomicBoolean settled = SETTLED.get();
+        if (settled != null && !settled.compareAndSet(false, true)) {
+            throw new IllegalStateException("Resume processing timed out");
+        }
+    }
+}
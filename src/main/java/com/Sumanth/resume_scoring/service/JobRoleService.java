@@ -1,17 +1,24 @@
 package com.Sumanth.resume_scoring.service;
 
 import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.RoleSkillUpdateDTO;
 import com.Sumanth.resume_scoring.entity.JobRole;
 import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.event.RoleSkillsChangedEvent;
 import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
 import com.Sumanth.resume_scoring.repository.JobRoleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +26,18 @@ public class JobRoleService {
     @Autowired
     private JobRoleRepository jobRoleRepository;
 
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
     public List<JobRole> getAllJobRoles() {
         return jobRoleRepository.findAll();
     }
@@ -28,6 +47,14 @@ public class JobRoleService {
                 .orElseThrow(() -> new ResourceNotFoundException("Job Role with ID " + id + " not found"));
     }
 
+    /**
+     * Loads the role with its skills initialised, for scoring outside a transaction.
+     */
+    public JobRole getRoleWithSkills(Long id) {
+        return jobRoleRepository.findByIdWithSkills(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job Role with ID " + id + " not found"));
+    }
+
     @Transactional
     public JobRole createRole(JobRoleRequestDTO request) {
         JobRole jobRole = new JobRole();
@@ -38,7 +65,43 @@ public class JobRoleService {
     @Transactional
     public JobRole updateRole(Long id, JobRoleRequestDTO request) {
         JobRole jobRole = getRoleById(id);
-        updateEntityFromDto(jobRole, request);
+        Integer previousMinExperience = jobRole.getMinExperienceYears();
+        boolean skillsChanged = updateEntityFromDto(jobRole, request);
+        if (skillsChanged) {
+            scoringEngineService.evictRole(id);
+        }
+        if (skillsChanged || !Objects.equals(previousMinExperience, jobRole.getMinExperienceYears())) {
+            eventPublisher.publishEvent(new RoleSkillsChangedEvent(id));
+        }
+        leaderboardService.evictRole(id);
+        return jobRoleRepository.save(jobRole);
+    }
+
+    /**
+     * Tunes one skill's weight or mandatory flag. The skill list itself is unchanged,
+     * so existing candidates are rescored from their stored skill vectors.
+     */
+    @Transactional
+    public JobRole updateSkill(Long roleId, Long skillId, RoleSkillUpdateDTO request) {
+        JobRole jobRole = getRoleById(roleId);
+        RoleSkill skill = jobRole.getRequiredSkills().stream()
+                .filter(s -> s.getId().equals(skillId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Skill with ID " + skillId + " not found in role " + roleId));
+
+        if (request.getWeight() != null) {
+            if (request.getWeight() < 0) {
+                throw new IllegalArgumentException("Skill weight cannot be negative");
+            }
+            skill.setWeight(request.getWeight());
+        }
+        if (request.getMandatory() != null) {
+            skill.setMandatory(request.getMandatory());
+        }
+
+        jobRole.setUpdatedAt(LocalDateTime.now());
+        scoringEngineService.evictRole(roleId);
+        eventPublisher.publishEvent(new RoleSkillsChangedEvent(roleId));
         return jobRoleRepository.save(jobRole);
     }
 
@@ -46,9 +109,12 @@ public class JobRoleService {
     public void deleteRole(Long id) {
         JobRole jobRole = getRoleById(id);
         jobRoleRepository.delete(jobRole);
+        scoringEngineService.evictRole(id);
+        rankingService.evictRole(id);
+        leaderboardService.evictRole(id);
     }
 
-    private void updateEntityFromDto(JobRole jobRole, JobRoleRequestDTO request) {
+    private boolean updateEntityFromDto(JobRole jobRole, JobRoleRequestDTO request) {
         jobRole.setRoleName(request.getRoleName());
         jobRole.setDescription(request.getDescription());
         jobRole.setMinExperienceYears(request.getMinExperienceYears());
@@ -61,15 +127,35 @@ public class JobRoleService {
                     .filter(s -> !s.isEmpty())
                     .collect(Collectors.toList());
 
+            // Keep existing skill rows (ids, weights, aliases) so stored candidate skill vectors stay valid
+            List<RoleSkill> current = jobRole.getRequiredSkills() != null ? jobRole.getRequiredSkills() : new ArrayList<>();
+            Map<String, RoleSkill> existing = new HashMap<>();
+            for (RoleSkill rs : current) {
+                existing.putIfAbsent(rs.getSkillName().toLowerCase(), rs);
+            }
+
+            boolean changed = false;
             List<RoleSkill> skills = new ArrayList<>();
             for (String skillName : skillNames) {
-                RoleSkill rs = new RoleSkill();
+                RoleSkill rs = existing.remove(skillName.toLowerCase());
+                if (rs == null) {
+                    rs = new RoleSkill();
+                    rs.setJobRole(jobRole);
+                    rs.setWeight(5); // Default weight
+                    rs.setMandatory(true); // Treat as mandatory for simple SaaS version
+                    changed = true;
+                } else if (!rs.getSkillName().equals(skillName)) {
+                    changed = true;
+                }
                 rs.setSkillName(skillName);
-                rs.setJobRole(jobRole);
-                rs.setWeight(5); // Default weight
-                rs.setMandatory(true); // Treat as mandatory for simple SaaS version
                 skills.add(rs);
             }
+            if (skills.size() != current.size()) {
+                changed = true;
+            }
+            if (!changed) {
+                return false;
+            }
 
             if (jobRole.getRequiredSkills() != null) {
                 jobRole.getRequiredSkills().clear();
@@ -77,6 +163,10 @@ public class JobRoleService {
             } else {
                 jobRole.setRequiredSkills(skills);
             }
+            // Skill rows live on the inverse side, so bump the version explicitly for cached matchers
+            jobRole.setUpdatedAt(LocalDateTime.now());
+            return true;
         }
+        return false;
     }
 }
@@ -0,0 +1,194 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.response.CandidateResponseDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import com.Sumanth.resume_scoring.repository.JobRoleRepository;
+import com.Sumanth.resume_scoring.repository.LeaderboardView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the best {@code leaderboard.capacity} candidates of each role in memory,
+ * ordered by score, with excluded statuses (REJECTED by default) filtered out.
+ * A role's board is loaded from the database on first read and then maintained
+ * as scores and statuses are written. When a member leaves a full board the
+ * next-best candidate is unknown, so the board is refilled on the next read.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt((Entry e) -> e.score).reversed()
+            .thenComparing(e -> e.id);
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private JobRoleRepository jobRoleRepository;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Value("${leaderboard.capacity:100}")
+    private int capacity;
+
+    @Value("${leaderboard.excluded-statuses:REJECTED}")
+    private Set<String> excludedStatuses;
+
+    private final Map<Long, RoleBoard> boards = new ConcurrentHashMap<>();
+
+    public List<CandidateResponseDTO> getTop(Long roleId, int k) {
+        if (k < 1 || k > capacity) {
+            throw new IllegalArgumentException("k must be between 1 and " + capacity);
+        }
+        RoleBoard board = boards.computeIfAbsent(roleId, id -> new RoleBoard());
+        synchronized (board) {
+            if (board.stale) {
+                load(roleId, board);
+            }
+            List<CandidateResponseDTO> top = new ArrayList<>(k);
+            for (Entry e : board.top) {
+                if (top.size() == k) break;
+                top.add(CandidateResponseDTO.builder()
+                        .id(e.id)
+                        .name(e.name)
+                        .email(e.email)
+                        .totalScore(e.score)
+                        .status(e.status)
+                        .roleName(board.roleName)
+                        .experienceLevel(e.experienceLevel)
+                        .rankInRole(rankingService.rankOf(roleId, e.score))
+                        .build());
+            }
+            return top;
+        }
+    }
+
+    public void record(Candidate candidate) {
+        if (candidate.getJobRole() == null) return;
+        Long roleId = candidate.getJobRole().getId();
+        Entry entry = isListed(candidate.getStatus(), candidate.getTotalScore())
+                ? new Entry(candidate.getId(), candidate.getName(), candidate.getEmail(), candidate.getTotalScore(),
+                            candidate.getStatus(), candidate.getExperienceLevel())
+                : null;
+        Long candidateId = candidate.getId();
+        RankingService.afterCommit(() -> {
+            RoleBoard board = boards.get(roleId);
+            if (board == null) return;
+            synchronized (board) {
+                if (entry == null) {
+                    board.remove(candidateId);
+                } else {
+                    board.put(entry, capacity);
+                }
+            }
+        });
+    }
+
+    public void remove(Long roleId, Long candidateId) {
+        RankingService.afterCommit(() -> {
+            RoleBoard board = boards.get(roleId);
+            if (board == null) return;
+            synchronized (board) {
+                board.remove(candidateId);
+            }
+        });
+    }
+
+    // Role name or existence changed; reload lazily
+    public void evictRole(Long roleId) {
+        RankingService.afterCommit(() -> boards.remove(roleId));
+    }
+
+    private void load(Long roleId, RoleBoard board) {
+        JobRole role = jobRoleRepository.findById(roleId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job Role with ID " + roleId + " not found"));
+        // NOT IN () is invalid SQL, so an empty exclusion list becomes a status no candidate has
+        Set<String> excluded = excludedStatuses.isEmpty() ? Set.of("") : excludedStatuses;
+        List<LeaderboardView> rows = candidateRepository.findLeaderboard(roleId, excluded, PageRequest.of(0, capacity));
+
+        board.roleName = role.getRoleName();
+        board.top.clear();
+        board.byId.clear();
+        for (LeaderboardView row : rows) {
+            Entry entry = new Entry(row.getId(), row.getName(), row.getEmail(), row.getTotalScore(),
+                                    row.getStatus(), row.getExperienceLevel());
+            board.top.add(entry);
+            board.byId.put(entry.id, entry);
+        }
+        board.mayHaveMore = rows.size() == capacity;
+        board.stale = false;
+    }
+
+    private boolean isListed(String status, Integer score) {
+        return score != null && (status == null || !excludedStatuses.contains(status));
+    }
+
+    private static final class RoleBoard {
+        private final TreeSet<Entry> top = new TreeSet<>(ORDER);
+        private final Map<Long, Entry> byId = new HashMap<>();
+        private String roleName;
+        // True when candidates below the last entry may exist in the database
+        private boolean mayHaveMore;
+        private boolean stale = true;
+
+        private void put(Entry entry, int capacity) {
+            Entry previous = byId.remove(entry.id);
+            if (previous != null) {
+                top.remove(previous);
+                if (mayHaveMore && ORDER.compare(entry, previous) > 0) stale = true;
+            }
+            if (top.size() < capacity || ORDER.compare(entry, top.last()) < 0) {
+                top.add(entry);
+                byId.put(entry.id, entry);
+                if (top.size() > capacity) {
+                    byId.remove(top.pollLast().id);
+                    mayHaveMore = true;
+                }
+            } else {
+                mayHaveMore = true;
+            }
+        }
+
+        private void remove(Long candidateId) {
+            Entry previous = byId.remove(candidateId);
+            if (previous != null) {
+                top.remove(previous);
+                if (mayHaveMore) stale = true;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Long id;
+        private final String name;
+        private final String email;
+        private final int score;
+        private final String status;
+        private final String experienceLevel;
+
+        private Entry(Long id, String name, String email, int score, String status, String experienceLevel) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+            this.score = score;
+            this.status = status;
+            this.experienceLevel = experienceLevel;
+        }
+    }
+}
@@ -1,19 +1,257 @@
 package com.Sumanth.resume_scoring.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.Sumanth.resume_scoring.pdf.PdfTextExtractor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Extracts resume text with bounded memory. PDFBox buffers the document in at
+ * most {@code pdf.memory.max-main-bytes} of heap and spills the rest to temp
+ * files; oversized files and page counts are rejected before text extraction
+ * and text beyond {@code pdf.max-chars} is dropped. Documents of at least
+ * {@code pdf.parallel.min-pages} pages are extracted in parallel page ranges,
+ * each range holding its own copy of the document under the same memory cap.
+ */
 @Service
 public class PdfExtractionService {
 
-    public String extractTextFromPDF(MultipartFile file) throws IOException {
-        try (PDDocument document = PDDocument.load(file.getInputStream())) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+    private static final Logger log = LoggerFactory.getLogger(PdfExtractionService.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PdfTextCacheService pdfTextCacheService;
+
+    @Value("${pdf.max-file-bytes:20971520}")
+    private long maxFileBytes;
+
+    @Value("${pdf.max-pages:50}")
+    private int maxPages;
+
+    @Value("${pdf.max-chars:200000}")
+    private int maxChars;
+
+    @Value("${pdf.memory.max-main-bytes:16777216}")
+    private long maxMainMemoryBytes;
+
+    @Value("${pdf.memory.temp-dir:}")
+    private String tempDir;
+
+    @Value("${pdf.parallel.min-pages:20}")
+    private int parallelMinPages;
+
+    @Value("${pdf.parallel.pages-per-range:10}")
+    private int pagesPerRange;
+
+    // 0 means one thread per available processor
+    @Value("${pdf.parallel.threads:0}")
+    private int parallelThreads;
+
+    private DistributionSummary allocatedBytes;
+    private PdfTextExtractor extractor;
+    private ExecutorService rangeWorkers;
+
+    @PostConstruct
+    void init() {
+        if (parallelThreads <= 0) {
+            parallelThreads = Runtime.getRuntime().availableProcessors();
+        }
+        pagesPerRange = Math.max(1, pagesPerRange);
+        extractor = new PdfTextExtractor(maxChars, this::memoryUsageSetting);
+        AtomicInteger threadIndex = new AtomicInteger();
+        rangeWorkers = Executors.newFixedThreadPool(parallelThreads, r -> {
+            Thread t = new Thread(r, "pdf-range-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        allocatedBytes = DistributionSummary.builder("pdf.extraction.allocated.bytes")
+                .description("Bytes allocated while extracting one document, summed over the calling thread "
+                        + "and its page-range workers; a total, not peak heap")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Extracts text from an already stored PDF. PDFBox reads the file through random access,
+     * so the upload is never copied onto the heap as a whole.
+     */
+    public String extractTextFromPDF(Path file) throws IOException {
+        if (Files.size(file) > maxFileBytes) {
+            throw new IllegalArgumentException("Resume file exceeds the " + maxFileBytes + " byte limit");
+        }
+
+        // Recruiters often re-upload the same PDF; limits are part of the key so changing
+        // them never serves text extracted under different settings
+        String cacheKey = cacheKey(file);
+        String cached = pdfTextCacheService.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        String text = parse(file);
+        pdfTextCacheService.put(cacheKey, text);
+        return text;
+    }
+
+    /**
+     * Forgets the cached text of a stored PDF, e.g. once its candidate is deleted.
+     */
+    public void evictCachedText(Path file) {
+        try {
+            if (Files.exists(file)) {
+                pdfTextCacheService.remove(cacheKey(file));
+            }
+        } catch (IOException e) {
+            log.warn("Could not evict cached text for {}", file, e);
+        }
+    }
+
+    private String cacheKey(Path file) throws IOException {
+        return PdfTextCacheService.sha256(file) + "-p" + maxPages + "-c" + maxChars;
+    }
+
+    /**
+     * Parses without consulting or filling the text cache; used by the startup warm-up.
+     */
+    public String extractUncached(Path file) throws IOException {
+        return parse(file);
+    }
+
+    private String parse(Path file) throws IOException {
+        long allocatedBefore = currentThreadAllocatedBytes();
+        LongAdder workerAllocated = new LongAdder();
+        try (PDDocument document = PDDocument.load(file.toFile(), memoryUsageSetting())) {
+            int pages = document.getNumberOfPages();
+            if (pages > maxPages) {
+                throw new IllegalArgumentException("Resume has " + pages + " pages; the limit is " + maxPages);
+            }
+
+            // PDFBox extracts one page at a time on a single thread, so split long documents into ranges
+            if (pages >= parallelMinPages && parallelThreads > 1) {
+                int ranges = Math.min(parallelThreads, Math.max(2, pages / pagesPerRange));
+                return extractor.extractParallel(document, file.toFile(), ranges,
+                        new AllocationTrackingExecutor(rangeWorkers, workerAllocated));
+            }
+            return extractor.extract(document);
+        } finally {
+            long allocatedAfter = currentThreadAllocatedBytes();
+            if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+                long allocated = allocatedAfter - allocatedBefore + workerAllocated.sum();
+                allocatedBytes.record(allocated);
+                log.debug("Extracted {} allocating {} bytes", file.getFileName(), allocated);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rangeWorkers.shutdownNow();
+    }
+
+    private MemoryUsageSetting memoryUsageSetting() {
+        MemoryUsageSetting setting = MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+        if (tempDir != null && !tempDir.isBlank()) {
+            setting.setTempDir(new File(tempDir));
+        }
+        return setting;
+    }
+
+    // Per-thread allocation counter, or -1 where the JVM does not provide one
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Runs page ranges on the shared workers and adds what each range allocates on its worker
+     * thread to the document's total. The count is taken before the range's future completes,
+     * so it is in the total once the range's text has been read. Ranges dropped early (failure,
+     * character cap) are not counted.
+     */
+    private static final class AllocationTrackingExecutor extends AbstractExecutorService {
+        private final ExecutorService workers;
+        private final LongAdder allocated;
+
+        private AllocationTrackingExecutor(ExecutorService workers, LongAdder allocated) {
+            this.workers = workers;
+            this.allocated = allocated;
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Callable<T> task) {
+            return new FutureTask<>(() -> {
+                long before = currentThreadAllocatedBytes();
+                try {
+                    return task.call();
+                } finally {
+                    long after = currentThreadAllocatedBytes();
+                    if (before >= 0 && after >= 0) {
+                        allocated.add(after - before);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            workers.execute(command);
+        }
+
+        // The shared workers outlive any one document, so they are never shut down from here
+        @Override
+        public void shutdown() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return workers.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return workers.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return workers.awaitTermination(timeout, unit);
         }
     }
 }
@@ -0,0 +1,245 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.cache.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Extracted text keyed by the SHA-256 of the PDF bytes, so re-uploads of the
+ * same document skip PDFBox. An in-memory LRU bounded by total characters sits in
+ * front of an optional directory of {@code <key>.txt} files that survives restarts;
+ * once that directory passes {@code pdf.text-cache.disk-max-bytes} the least recently
+ * used files are deleted. The files hold resume text (PII), so the disk tier is off
+ * unless enabled with an absolute directory, which is kept readable by the owner only.
+ */
+@Service
+public class PdfTextCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfTextCacheService.class);
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${pdf.text-cache.max-memory-chars:20000000}")
+    private long maxMemoryChars;
+
+    @Value("${pdf.text-cache.disk-max-bytes:268435456}")
+    private long diskMaxBytes;
+
+    @Value("${pdf.text-cache.dir:}")
+    private String cacheDir;
+
+    @Value("${pdf.text-cache.disk-enabled:false}")
+    private boolean diskEnabled;
+
+    private LruCache<String, String> memory;
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final Object trimLock = new Object();
+    private Counter memoryHits;
+    private Counter diskHits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        memory = new LruCache<>(maxMemoryChars, String::length);
+        memoryHits = Counter.builder("pdf.text.cache.requests").tag("result", "hit").tag("tier", "memory").register(meterRegistry);
+        diskHits = Counter.builder("pdf.text.cache.requests").tag("result", "hit").tag("tier", "disk").register(meterRegistry);
+        misses = Counter.builder("pdf.text.cache.requests").tag("result", "miss").tag("tier", "none").register(meterRegistry);
+        Gauge.builder("pdf.text.cache.size", memory, LruCache::size).register(meterRegistry);
+        Gauge.builder("pdf.text.cache.chars", memory, LruCache::weight).register(meterRegistry);
+        Gauge.builder("pdf.text.cache.disk.bytes", diskBytes, AtomicLong::get).register(meterRegistry);
+        if (diskEnabled) {
+            if (cacheDir == null || cacheDir.isBlank() || !Paths.get(cacheDir).isAbsolute()) {
+                throw new IllegalStateException("pdf.text-cache.dir must be an absolute path when the disk tier is enabled");
+            }
+            try {
+                createCacheDir();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not create the text cache directory " + cacheDir, e);
+            }
+            trimDisk();
+        }
+    }
+
+    /**
+     * Returns cached text for the key, or null (counted as a miss) when neither tier has it.
+     */
+    public String get(String key) {
+        String text = memory.get(key);
+        if (text != null) {
+            memoryHits.increment();
+            return text;
+        }
+        if (diskEnabled) {
+            Path file = diskPath(key);
+            try {
+                if (Files.exists(file)) {
+                    text = Files.readString(file, StandardCharsets.UTF_8);
+                    // The modification time doubles as last use, so trimming drops the coldest files
+                    Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+                    memory.put(key, text);
+                    diskHits.increment();
+                    return text;
+                }
+            } catch (IOException e) {
+                log.warn("Could not read cached text {}", file, e);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(String key, String text) {
+        memory.put(key, text);
+        if (!diskEnabled) return;
+        try {
+            Path dir = createCacheDir();
+            // Write then rename so a concurrent reader never sees a partial file; temp files are
+            // created owner-only on POSIX file systems and keep that mode through the rename
+            Path temp = Files.createTempFile(dir, key, ".tmp");
+            Files.writeString(temp, text, StandardCharsets.UTF_8);
+            long written = Files.size(temp);
+            Path target = diskPath(key);
+            long replaced = Files.exists(target) ? Files.size(target) : 0;
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (diskBytes.addAndGet(written - replaced) > diskMaxBytes) {
+                trimDisk();
+            }
+        } catch (IOException e) {
+            log.warn("Could not write cached text for {}", key, e);
+        }
+    }
+
+    /**
+     * Drops the text cached under the key from both tiers.
+     */
+    public void remove(String key) {
+        memory.remove(key);
+        if (!diskEnabled) return;
+        Path file = diskPath(key);
+        try {
+            long size = Files.exists(file) ? Files.size(file) : 0;
+            if (Files.deleteIfExists(file)) {
+                diskBytes.addAndGet(-size);
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete cached text {}", file, e);
+        }
+    }
+
+    // Deletes least recently used files until the directory is back under 90% of its budget,
+    // so a full cache is not rescanned on every write
+    private void trimDisk() {
+        synchronized (trimLock) {
+            Path dir = Paths.get(cacheDir);
+            if (!Files.isDirectory(dir)) {
+                diskBytes.set(0);
+                return;
+            }
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(dir)) {
+                files = listing.filter(f -> f.getFileName().toString().endsWith(".txt")).collect(Collectors.toList());
+            } catch (IOException e) {
+                log.warn("Could not list cached text in {}", dir, e);
+                return;
+            }
+
+            Map<Path, Long> sizes = new HashMap<>();
+            Map<Path, FileTime> lastUsed = new HashMap<>();
+            long total = 0;
+            for (Path file : files) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    sizes.put(file, attributes.size());
+                    lastUsed.put(file, attributes.lastModifiedTime());
+                    total += attributes.size();
+                } catch (IOException e) {
+                    // Removed concurrently
+                }
+            }
+
+            if (total > diskMaxBytes) {
+                long target = diskMaxBytes / 10 * 9;
+                List<Path> coldestFirst = new ArrayList<>(sizes.keySet());
+                coldestFirst.sort(Comparator.comparing(lastUsed::get));
+                for (Path file : coldestFirst) {
+                    if (total <= target) break;
+                    try {
+                        if (Files.deleteIfExists(file)) {
+                            total -= sizes.get(file);
+                        }
+                    } catch (IOException e) {
+                        log.warn("Could not evict cached text {}", file, e);
+                    }
+                }
+            }
+            diskBytes.set(total);
+        }
+    }
+
+    /**
+     * Hex SHA-256 of a file's bytes, streamed so large PDFs are not held on the heap.
+     */
+    public static String sha256(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Path createCacheDir() throws IOException {
+        Path dir = Paths.get(cacheDir);
+        if (!Files.isDirectory(dir)) {
+            Files.createDirectories(dir);
+        }
+        if (dir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(dir, OWNER_ONLY);
+        }
+        return dir;
+    }
+
+    private Path diskPath(String key) {
+        return Paths.get(cacheDir).resolve(key + ".txt");
+    }
+}
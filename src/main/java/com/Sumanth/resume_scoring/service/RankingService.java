@@ -0,0 +1,154 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import com.Sumanth.resume_scoring.repository.CandidateScoreView;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory rank index per role. Scores are integers in 0..100, so each role
+ * keeps a score histogram plus each candidate's current score: adding, moving
+ * or removing a candidate is O(1) and no other row is rewritten. Ranks are
+ * derived at read time as 1 + the number of strictly higher scores, so ties
+ * share a rank. Updates apply only after the writing transaction commits.
+ */
+@Service
+public class RankingService {
+
+    private static final int MAX_SCORE = 100;
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    private final Map<Long, RoleRanks> roles = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void load() {
+        Long afterId = 0L;
+        List<CandidateScoreView> page;
+        do {
+            page = candidateRepository.findScoresAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (CandidateScoreView row : page) {
+                if (row.getTotalScore() != null) {
+                    ranksFor(row.getRoleId()).put(row.getId(), row.getTotalScore());
+                }
+                afterId = row.getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+    }
+
+    public void recordScore(Long roleId, Long candidateId, Integer score) {
+        if (roleId == null || candidateId == null) return;
+        afterCommit(() -> {
+            if (score == null) {
+                ranksFor(roleId).remove(candidateId);
+            } else {
+                ranksFor(roleId).put(candidateId, score);
+            }
+        });
+    }
+
+    /**
+     * Records a whole batch under one lock, for bulk ingest that defers ranking until every file is scored.
+     */
+    public void recordScores(Long roleId, Map<Long, Integer> scores) {
+        if (roleId == null || scores.isEmpty()) return;
+        Map<Long, Integer> batch = new HashMap<>(scores);
+        afterCommit(() -> ranksFor(roleId).putAll(batch));
+    }
+
+    public void removeCandidate(Long roleId, Long candidateId) {
+        if (roleId == null || candidateId == null) return;
+        afterCommit(() -> ranksFor(roleId).remove(candidateId));
+    }
+
+    public void evictRole(Long roleId) {
+        afterCommit(() -> roles.remove(roleId));
+    }
+
+    /**
+     * Rank of the candidate at its current score. The candidate's own indexed entry is not
+     * counted, so a rescore that has not committed yet is ranked against everyone else only.
+     */
+    public Integer rankOf(Candidate candidate) {
+        if (candidate.getJobRole() == null || candidate.getTotalScore() == null) return null;
+        RoleRanks ranks = roles.get(candidate.getJobRole().getId());
+        return ranks == null ? 1 : ranks.rankOf(candidate.getId(), candidate.getTotalScore());
+    }
+
+    public Integer rankOf(Long roleId, Integer score) {
+        if (roleId == null || score == null) return null;
+        RoleRanks ranks = roles.get(roleId);
+        return ranks == null ? 1 : ranks.rankOf(score);
+    }
+
+    private RoleRanks ranksFor(Long roleId) {
+        return roles.computeIfAbsent(roleId, id -> new RoleRanks());
+    }
+
+    // Runs now outside a transaction, otherwise only once the surrounding transaction commits
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static int bucket(int score) {
+        return Math.min(Math.max(score, 0), MAX_SCORE);
+    }
+
+    private static final class RoleRanks {
+        private final int[] histogram = new int[MAX_SCORE + 1];
+        private final Map<Long, Integer> scores = new HashMap<>();
+
+        synchronized void put(Long candidateId, int score) {
+            Integer previous = scores.put(candidateId, bucket(score));
+            if (previous != null) histogram[previous]--;
+            histogram[bucket(score)]++;
+        }
+
+        synchronized void putAll(Map<Long, Integer> batch) {
+            batch.forEach((candidateId, score) -> {
+                if (score != null) put(candidateId, score);
+            });
+        }
+
+        synchronized void remove(Long candidateId) {
+            Integer previous = scores.remove(candidateId);
+            if (previous != null) histogram[previous]--;
+        }
+
+        synchronized int rankOf(int score) {
+            int higher = 0;
+            for (int s = MAX_SCORE; s > bucket(score); s--) {
+                higher += histogram[s];
+            }
+            return higher + 1;
+        }
+
+        synchronized int rankOf(Long candidateId, int score) {
+            int rank = rankOf(score);
+            Integer indexed = candidateId == null ? null : scores.get(candidateId);
+            if (indexed != null && indexed > bucket(score)) rank--;
+            return rank;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.response.RescoreStatusDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.event.RoleSkillsChangedEvent;
+import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import com.Sumanth.resume_scoring.repository.CandidateTextView;
+import com.Sumanth.resume_scoring.repository.JobRoleRepository;
+import com.Sumanth.resume_scoring.scoring.ScoringResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Re-scores every candidate of a role after its skills change. Candidates are
+ * paged by id, rescored from their stored skill vectors where still valid (or
+ * rescanned in parallel on a bounded pool otherwise), and written back one page per
+ * transaction; the rank index picks up each page as it commits.
+ */
+@Service
+public class RoleRescoreService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleRescoreService.class);
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private JobRoleRepository jobRoleRepository;
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${rescore.threads:4}")
+    private int workerThreads;
+
+    @Value("${rescore.batch-size:200}")
+    private int batchSize;
+
+    private final Map<Long, RescoreJob> jobs = new ConcurrentHashMap<>();
+
+    // One job runs at a time so two rescores of the same role never interleave their writes
+    private ExecutorService coordinator;
+    private ExecutorService workers;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        coordinator = Executors.newSingleThreadExecutor();
+        workers = Executors.newFixedThreadPool(Math.max(1, workerThreads));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @TransactionalEventListener
+    public void onRoleSkillsChanged(RoleSkillsChangedEvent event) {
+        startRescore(event.getRoleId());
+    }
+
+    public RescoreStatusDTO startRescore(Long roleId) {
+        if (!jobRoleRepository.existsById(roleId)) {
+            throw new ResourceNotFoundException("Job Role with ID " + roleId + " not found");
+        }
+
+        RescoreJob job = new RescoreJob(roleId);
+        RescoreJob previous = jobs.put(roleId, job);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        coordinator.submit(() -> run(job));
+        return job.toDto();
+    }
+
+    public RescoreStatusDTO getStatus(Long roleId) {
+        RescoreJob job = jobs.get(roleId);
+        if (job == null) {
+            return RescoreStatusDTO.builder().roleId(roleId).state("IDLE").build();
+        }
+        return job.toDto();
+    }
+
+    private void run(RescoreJob job) {
+        if (job.cancelled) {
+            job.finish("CANCELLED", null);
+            return;
+        }
+        job.state = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+
+        try {
+            JobRole role = jobRoleRepository.findByIdWithSkills(job.roleId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job Role with ID " + job.roleId + " not found"));
+            job.total = candidateRepository.countByJobRoleId(job.roleId);
+
+            Long afterId = 0L;
+            while (true) {
+                if (job.cancelled) {
+                    job.finish("CANCELLED", null);
+                    return;
+                }
+                Long pageStart = afterId;
+                Long lastId = transactionTemplate.execute(status -> rescorePage(job, role, pageStart));
+                if (lastId == null) break;
+                afterId = lastId;
+            }
+
+            job.finish("COMPLETED", null);
+        } catch (Exception e) {
+            log.error("Rescore of role {} failed", job.roleId, e);
+            job.finish("FAILED", e.getMessage());
+        }
+    }
+
+    // Returns the last candidate id of the page, or null once the role is exhausted
+    private Long rescorePage(RescoreJob job, JobRole role, Long afterId) {
+        List<Candidate> page = candidateRepository.findByJobRoleIdAndIdGreaterThanOrderByIdAsc(
+                job.roleId, afterId, PageRequest.of(0, batchSize));
+        if (page.isEmpty()) return null;
+
+        // A weight change leaves stored skill vectors valid, so those candidates are rescored with
+        // arithmetic; only vectors built for an older skill list need the resume text rescanned
+        ScoringResult[] results = new ScoringResult[page.size()];
+        List<Integer> stale = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+            results[i] = scoringEngineService.rescoreFromBreakdown(page.get(i), role);
+            if (results[i] == null) {
+                stale.add(i);
+            }
+        }
+
+        // Resume text is lazy, so the stale candidates' texts are read in one query rather than one each
+        List<Callable<ScoringResult>> tasks = new ArrayList<>();
+        if (!stale.isEmpty()) {
+            List<Long> staleIds = new ArrayList<>(stale.size());
+            for (int i : stale) staleIds.add(page.get(i).getId());
+            Map<Long, String> texts = new HashMap<>();
+            for (CandidateTextView view : candidateRepository.findTextsByIdIn(staleIds)) {
+                texts.put(view.getId(), view.getResumeText());
+            }
+            for (int i : stale) {
+                String text = texts.get(page.get(i).getId());
+                tasks.add(() -> scoringEngineService.evaluate(text, role));
+            }
+        }
+
+        try {
+            List<Future<ScoringResult>> rescanned = workers.invokeAll(tasks);
+            for (int t = 0; t < stale.size(); t++) {
+                results[stale.get(t)] = rescanned.get(t).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rescore interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scoring failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        for (int i = 0; i < page.size(); i++) {
+            results[i].applyTo(page.get(i));
+            rankingService.recordScore(job.roleId, page.get(i).getId(), results[i].getScore());
+            leaderboardService.record(page.get(i));
+        }
+
+        // Dirty entities are flushed as one batch when the page transaction commits
+        job.processed.addAndGet(page.size());
+        return page.get(page.size() - 1).getId();
+    }
+
+    private static final class RescoreJob {
+        private final Long roleId;
+        private final AtomicLong processed = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile String state = "QUEUED";
+        private volatile long total;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private RescoreJob(Long roleId) {
+            this.roleId = roleId;
+        }
+
+        private void finish(String finalState, String failure) {
+            this.state = finalState;
+            this.error = failure;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        private RescoreStatusDTO toDto() {
+            return RescoreStatusDTO.builder()
+                    .roleId(roleId)
+                    .state(state)
+                    .totalCandidates(total)
+                    .processedCandidates(processed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.cache.LruCache;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.entity.ScoreCacheEntry;
+import com.Sumanth.resume_scoring.repository.ScoreCacheEntryRepository;
+import com.Sumanth.resume_scoring.scoring.ScoringResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Skips rescoring text that has already been scored against the same role
+ * version. Results are keyed by (SHA-256 of the resume text, role id, role
+ * version, engine version) in a bounded in-memory LRU, optionally backed by
+ * the score_cache table so hits survive restarts and are shared across pods.
+ */
+@Service
+public class ScoreCacheService {
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Autowired
+    private ScoreCacheEntryRepository scoreCacheEntryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${scoring.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${scoring.cache.persistent:false}")
+    private boolean persistent;
+
+    private LruCache<Key, ScoringResult> memory;
+    private TransactionTemplate independentTx;
+    private Counter memoryHits;
+    private Counter databaseHits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        memory = new LruCache<>(maxEntries);
+        independentTx = new TransactionTemplate(transactionManager);
+        independentTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        memoryHits = Counter.builder("scoring.cache.requests").tag("result", "hit").tag("tier", "memory").register(meterRegistry);
+        databaseHits = Counter.builder("scoring.cache.requests").tag("result", "hit").tag("tier", "database").register(meterRegistry);
+        misses = Counter.builder("scoring.cache.requests").tag("result", "miss").tag("tier", "none").register(meterRegistry);
+        Gauge.builder("scoring.cache.size", memory, LruCache::size).register(meterRegistry);
+    }
+
+    public ScoringResult evaluate(String resumeText, JobRole role) {
+        if (role == null || role.getId() == null) {
+            return scoringEngineService.evaluate(resumeText, role);
+        }
+
+        Key key = new Key(sha256(resumeText), role.getId(), roleVersion(role), ScoringEngineService.ENGINE_VERSION);
+
+        ScoringResult cached = memory.get(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        if (persistent) {
+            Optional<ScoreCacheEntry> stored = scoreCacheEntryRepository
+                    .findByContentHashAndRoleIdAndRoleVersionAndEngineVersion(
+                            key.getContentHash(), key.getRoleId(), key.getRoleVersion(), key.getEngineVersion());
+            if (stored.isPresent()) {
+                databaseHits.increment();
+                ScoringResult result = toResult(stored.get());
+                memory.put(key, result);
+                return result;
+            }
+        }
+
+        misses.increment();
+        ScoringResult result = scoringEngineService.evaluate(resumeText, role);
+        memory.put(key, result);
+        if (persistent) {
+            store(key, result);
+        }
+        return result;
+    }
+
+    // Written in its own transaction so a concurrent duplicate insert never rolls back the caller
+    private void store(Key key, ScoringResult result) {
+        try {
+            independentTx.executeWithoutResult(status -> {
+                ScoreCacheEntry entry = new ScoreCacheEntry();
+                entry.setContentHash(key.getContentHash());
+                entry.setRoleId(key.getRoleId());
+                entry.setRoleVersion(key.getRoleVersion());
+                entry.setEngineVersion(key.getEngineVersion());
+                entry.setScore(result.getScore());
+                entry.setExperienceLevel(result.getExperienceLevel());
+                entry.setSkillScore(result.getSkillScore());
+                entry.setMatchedSkills(result.getMatchedSkills());
+                entry.setSkillSignature(result.getSkillSignature());
+                entry.setExperienceYears(result.getExperienceYears());
+                entry.setEducationScore(result.getEducationScore());
+                entry.setQualityScore(result.getQualityScore());
+                scoreCacheEntryRepository.save(entry);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another request stored the same key first
+        }
+    }
+
+    private static ScoringResult toResult(ScoreCacheEntry entry) {
+        return ScoringResult.builder()
+                .score(entry.getScore())
+                .experienceLevel(entry.getExperienceLevel())
+                .skillScore(entry.getSkillScore())
+                .matchedSkills(entry.getMatchedSkills())
+                .skillSignature(entry.getSkillSignature())
+                .experienceYears(entry.getExperienceYears())
+                .educationScore(entry.getEducationScore())
+                .qualityScore(entry.getQualityScore())
+                .build();
+    }
+
+    static long roleVersion(JobRole role) {
+        return role.getUpdatedAt() == null ? 0L : role.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest((text == null ? "" : text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final String contentHash;
+        private final Long roleId;
+        private final Long roleVersion;
+        private final Integer engineVersion;
+    }
+}
@@ -1,29 +1,101 @@
 package com.Sumanth.resume_scoring.service;
 
+import com.Sumanth.resume_scoring.entity.Candidate;
 import com.Sumanth.resume_scoring.entity.JobRole;
 import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.scoring.ResumeFeatures;
+import com.Sumanth.resume_scoring.scoring.ScoringResult;
+import com.Sumanth.resume_scoring.scoring.SkillMatcher;
+import com.Sumanth.resume_scoring.scoring.SkillMatcherCache;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Service
 public class ScoringEngineService {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}");
-    private static final Pattern PHONE_PATTERN = Pattern.compile("(\\+?\\d{1,3}[- ]?)?\\(?\\d{3}\\)?[- ]?\\d{3}[- ]?\\d{4}");
+    // Bump whenever scoring rules change so cached scores from older rules are ignored
+    public static final int ENGINE_VERSION = 2;
+
+    // Building a role's skill automaton costs more than scanning a resume with it, so keep one per role version
+    private final SkillMatcherCache skillMatcherCache = new SkillMatcherCache();
+
+    public void evictRole(Long roleId) {
+        skillMatcherCache.invalidate(roleId);
+    }
+
+    public SkillMatcher getSkillMatcher(JobRole role) {
+        return skillMatcherCache.get(role);
+    }
+
+    public ResumeFeatures extractFeatures(String resumeText, JobRole role) {
+        return ResumeFeatures.extract(resumeText, role == null ? null : skillMatcherCache.get(role));
+    }
+
+    /**
+     * Scores and levels a resume from a single feature extraction pass. Feedback is not
+     * built here; it is derived on demand from the stored breakdown.
+     */
+    public ScoringResult evaluate(String resumeText, JobRole role) {
+        ResumeFeatures features = extractFeatures(resumeText, role);
+        return buildResult(features.getMatchedSkills(), features.getMaxYears(),
+                features.getEducationTier().getScore(), calculateQualityScore(features), role);
+    }
+
+    /**
+     * Rescores from a candidate's stored breakdown with arithmetic only, or returns null
+     * when the stored vector was built for a different skill list and the text must be rescanned.
+     */
+    public ScoringResult rescoreFromBreakdown(Candidate candidate, JobRole role) {
+        if (role == null || candidate.getSkillVector() == null || candidate.getExperienceYears() == null
+                || candidate.getEducationScore() == null || candidate.getQualityScore() == null
+                || !Objects.equals(candidate.getSkillSignature(), skillSignature(role))) {
+            return null;
+        }
+        return buildResult(BitSet.valueOf(candidate.getSkillVector()), candidate.getExperienceYears(),
+                candidate.getEducationScore(), candidate.getQualityScore(), role);
+    }
+
+    private ScoringResult buildResult(BitSet matched, int years, int educationScore, int qualityScore, JobRole role) {
+        int skillScore = role == null ? 0 : calculateSkillScore(matched, role.getRequiredSkills());
+        int score = role == null ? 0 : combineScores(skillScore, years, educationScore, qualityScore, role);
+
+        return ScoringResult.builder()
+                .score(score)
+                .experienceLevel(experienceLevelFor(years))
+                .skillScore(skillScore)
+                .matchedSkills(matched.toByteArray())
+                .skillSignature(role == null ? null : skillSignature(role))
+                .experienceYears(years)
+                .educationScore(educationScore)
+                .qualityScore(qualityScore)
+                .build();
+    }
+
+    /**
+     * Fingerprint of the role's skill list; stored vectors are only reusable while it is unchanged.
+     */
+    public String skillSignature(JobRole role) {
+        return skillMatcherCache.get(role).getSignature();
+    }
 
     public int calculateAdvancedScore(String resumeText, JobRole role) {
         if (role == null) return 0;
-        String lowerCaseText = resumeText.toLowerCase();
+        return calculateAdvancedScore(extractFeatures(resumeText, role), role);
+    }
 
-        int skillScore = calculateSkillScore(lowerCaseText, role.getRequiredSkills());
-        int experienceScore = calculateExperienceScore(lowerCaseText, role.getMinExperienceYears());
-        int educationScore = calculateEducationScore(lowerCaseText);
-        int qualityScore = calculateQualityScore(resumeText);
+    public int calculateAdvancedScore(ResumeFeatures features, JobRole role) {
+        if (role == null) return 0;
+        int skillScore = calculateSkillScore(features.getMatchedSkills(), role.getRequiredSkills());
+        return combineScores(skillScore, features.getMaxYears(), features.getEducationTier().getScore(),
+                calculateQualityScore(features), role);
+    }
+
+    private int combineScores(int skillScore, int years, int educationScore, int qualityScore, JobRole role) {
+        int experienceScore = calculateExperienceScore(years, role.getMinExperienceYears());
 
         int totalScore = (int) ((skillScore * 0.6) + (experienceScore * 0.2) +
                                 (educationScore * 0.1) + (qualityScore * 0.1));
@@ -31,89 +103,93 @@ public class ScoringEngineService {
         return Math.min(Math.max(0, totalScore), 100);
     }
 
-    private int calculateSkillScore(String lowerText, List<RoleSkill> skills) {
+    private int calculateSkillScore(BitSet matched, List<RoleSkill> skills) {
         double matchedWeight = 0;
         double totalWeight = 0;
 
         if (skills == null) return 0;
 
-        for (RoleSkill skill : skills) {
+        for (int i = 0; i < skills.size(); i++) {
+            RoleSkill skill = skills.get(i);
             totalWeight += skill.getWeight();
-            boolean found = isSkillInText(lowerText, skill.getSkillName());
 
-            if (!found && skill.getAliases() != null && !skill.getAliases().isEmpty()) {
-                found = Arrays.stream(skill.getAliases().split(","))
-                              .anyMatch(alias -> isSkillInText(lowerText, alias.trim()));
-            }
-
-            if (found) {
+            if (matched.get(i)) {
                 matchedWeight += skill.getWeight();
             } else if (skill.isMandatory()) {
-                matchedWeight -= (skill.getWeight() * 0.5); 
+                matchedWeight -= (skill.getWeight() * 0.5);
             }
         }
         return totalWeight == 0 ? 0 : (int) ((matchedWeight / totalWeight) * 100);
     }
 
-    private boolean isSkillInText(String text, String skill) {
-        String pattern = "\\b" + Pattern.quote(skill.toLowerCase()) + "\\b";
-        return Pattern.compile(pattern).matcher(text).find();
-    }
-
-    private int calculateExperienceScore(String text, Integer requiredYears) {
-        int detectedYears = 0;
-        Matcher m = Pattern.compile("(\\d+)\\+?\\s*(years?|yrs?)").matcher(text);
-        while (m.find()) {
-            detectedYears = Math.max(detectedYears, Integer.parseInt(m.group(1)));
-        }
-
+    private int calculateExperienceScore(int detectedYears, Integer requiredYears) {
         if (requiredYears != null && detectedYears < requiredYears) return 40;
         if (detectedYears >= 10) return 100;
         if (detectedYears >= 5) return 85;
         return 60;
     }
 
-    private int calculateEducationScore(String lowerText) {
-        if (lowerText.contains("phd") || lowerText.contains("doctorate")) return 100;
-        if (lowerText.contains("masters") || lowerText.contains("m.tech") || lowerText.contains("mba")) return 90;
-        if (lowerText.contains("bachelor") || lowerText.contains("b.tech") || lowerText.contains("b.e")) return 80;
-        return 50;
-    }
-
-    private int calculateQualityScore(String resumeText) {
+    private int calculateQualityScore(ResumeFeatures features) {
         int score = 100;
-        if (!EMAIL_PATTERN.matcher(resumeText).find()) score -= 30;
-        if (!PHONE_PATTERN.matcher(resumeText).find()) score -= 30;
-        if (resumeText.length() < 500) score -= 20; 
+        if (!features.isEmailPresent()) score -= 30;
+        if (!features.isPhonePresent()) score -= 30;
+        if (features.getLength() < 500) score -= 20;
         return Math.max(0, score);
     }
 
     public String detectExperienceLevel(String text) {
-        int years = 0;
-        Matcher m = Pattern.compile("(\\d+)\\+?\\s*(years?|yrs?)").matcher(text.toLowerCase());
-        while (m.find()) {
-            years = Math.max(years, Integer.parseInt(m.group(1)));
-        }
+        return detectExperienceLevel(ResumeFeatures.extract(text, null));
+    }
+
+    public String detectExperienceLevel(ResumeFeatures features) {
+        return experienceLevelFor(features.getMaxYears());
+    }
+
+    private String experienceLevelFor(int years) {
         if (years >= 8) return "Senior / Lead";
         if (years >= 3) return "Mid-Level";
         return "Junior / Entry-Level";
     }
 
+    /**
+     * Explains a candidate's score from the stored skill vector, rescanning the resume
+     * text only when the vector was built for a different skill list.
+     */
+    public String generateFeedback(Candidate candidate, JobRole role) {
+        if (role == null) return "";
+        if (candidate.getSkillVector() != null && candidate.getExperienceYears() != null
+                && Objects.equals(candidate.getSkillSignature(), skillSignature(role))) {
+            return generateDetailedFeedback(BitSet.valueOf(candidate.getSkillVector()), candidate.getExperienceYears(), role);
+        }
+        return generateDetailedFeedback(candidate.getResumeText(), role);
+    }
+
     public String generateDetailedFeedback(String resumeText, JobRole role) {
         if (role == null) return "";
-        String lowerText = resumeText.toLowerCase();
+        return generateDetailedFeedback(extractFeatures(resumeText, role), role);
+    }
 
-        List<String> missingMandatory = role.getRequiredSkills().stream()
-                .filter(s -> s.isMandatory() && !isSkillInText(lowerText, s.getSkillName()))
-                .map(RoleSkill::getSkillName)
-                .collect(Collectors.toList());
+    public String generateDetailedFeedback(ResumeFeatures features, JobRole role) {
+        return generateDetailedFeedback(features.getMatchedSkills(), features.getMaxYears(), role);
+    }
+
+    private String generateDetailedFeedback(BitSet matched, int years, JobRole role) {
+        if (role == null) return "";
+        List<RoleSkill> skills = role.getRequiredSkills();
+
+        List<String> missingMandatory = new ArrayList<>();
+        for (int i = 0; i < skills.size(); i++) {
+            if (skills.get(i).isMandatory() && !matched.get(i)) {
+                missingMandatory.add(skills.get(i).getSkillName());
+            }
+        }
 
         StringBuilder fb = new StringBuilder();
         if (!missingMandatory.isEmpty()) {
             fb.append("CRITICAL MISSING SKILLS: ").append(String.join(", ", missingMandatory)).append("\n\n");
         }
-        fb.append("EXPERIENCE: ").append(detectExperienceLevel(resumeText));
-        
+        fb.append("EXPERIENCE: ").append(experienceLevelFor(years));
+
         return fb.toString();
     }
 }
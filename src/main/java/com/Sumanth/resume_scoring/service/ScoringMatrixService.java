@@ -0,0 +1,124 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.response.CandidateRoleScoresDTO;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import com.Sumanth.resume_scoring.repository.CandidateTextView;
+import com.Sumanth.resume_scoring.repository.JobRoleRepository;
+import com.Sumanth.resume_scoring.scoring.ResumeFeatures;
+import com.Sumanth.resume_scoring.scoring.SkillMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Scores candidates against every active role. Each resume is scanned once
+ * for all roles through a combined skill automaton, pages are evaluated in
+ * parallel, and rows are handed to the caller page by page as they finish.
+ */
+@Service
+public class ScoringMatrixService {
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private JobRoleRepository jobRoleRepository;
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Value("${scoring.matrix.page-size:500}")
+    private int pageSize;
+
+    public interface RowSink {
+        void accept(List<CandidateRoleScoresDTO> rows) throws IOException;
+    }
+
+    public void streamMatrix(List<Long> candidateIds, RowSink sink) throws IOException {
+        RoleSet roles = new RoleSet(jobRoleRepository.findActiveWithSkills());
+
+        if (candidateIds != null && !candidateIds.isEmpty()) {
+            List<Long> ids = new ArrayList<>(new TreeSet<>(candidateIds));
+            for (int from = 0; from < ids.size(); from += pageSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + pageSize, ids.size()));
+                sink.accept(scorePage(candidateRepository.findTextsByIdIn(chunk), roles));
+            }
+            return;
+        }
+
+        long afterId = 0L;
+        while (true) {
+            List<CandidateTextView> page = candidateRepository.findTextsAfter(afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) break;
+            sink.accept(scorePage(page, roles));
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    private List<CandidateRoleScoresDTO> scorePage(List<CandidateTextView> page, RoleSet roles) {
+        return page.parallelStream()
+                .map(candidate -> scoreAcrossRoles(candidate, roles))
+                .collect(Collectors.toList());
+    }
+
+    private CandidateRoleScoresDTO scoreAcrossRoles(CandidateTextView candidate, RoleSet roles) {
+        ResumeFeatures features = ResumeFeatures.extract(candidate.getResumeText(), null);
+        BitSet allMatches = roles.matcher.match(features.getLowerText());
+
+        Map<Long, Integer> scores = new LinkedHashMap<>();
+        JobRole best = null;
+        int bestScore = -1;
+        for (int r = 0; r < roles.roles.size(); r++) {
+            JobRole role = roles.roles.get(r);
+            BitSet matched = allMatches.get(roles.offsets[r], roles.offsets[r + 1]);
+            int score = scoringEngineService.calculateAdvancedScore(features.withMatchedSkills(matched), role);
+            scores.put(role.getId(), score);
+            if (score > bestScore) {
+                bestScore = score;
+                best = role;
+            }
+        }
+
+        return CandidateRoleScoresDTO.builder()
+                .candidateId(candidate.getId())
+                .candidateName(candidate.getName())
+                .roleScores(scores)
+                .bestRoleId(best != null ? best.getId() : null)
+                .bestRoleName(best != null ? best.getRoleName() : null)
+                .bestScore(best != null ? bestScore : null)
+                .build();
+    }
+
+    // All active roles' skills concatenated into one automaton; offsets[r] is role r's first skill bit
+    private static final class RoleSet {
+        private final List<JobRole> roles;
+        private final int[] offsets;
+        private final SkillMatcher matcher;
+
+        private RoleSet(List<JobRole> roles) {
+            this.roles = roles;
+            this.offsets = new int[roles.size() + 1];
+            List<RoleSkill> allSkills = new ArrayList<>();
+            for (int r = 0; r < roles.size(); r++) {
+                offsets[r] = allSkills.size();
+                if (roles.get(r).getRequiredSkills() != null) {
+                    allSkills.addAll(roles.get(r).getRequiredSkills());
+                }
+            }
+            offsets[roles.size()] = allSkills.size();
+            this.matcher = SkillMatcher.compile(allSkills);
+        }
+    }
+}
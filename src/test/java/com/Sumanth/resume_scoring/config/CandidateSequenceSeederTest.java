@@ -0,0 +1,39 @@
+package com.Sumanth.resume_scoring.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CandidateSequenceSeederTest {
+
+    @Autowired
+    private CandidateSequenceSeeder candidateSequenceSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sequenceIsRaisedPastRowsInsertedBeforeIt() {
+        // A row with an id the sequence has not reached, as IDENTITY-era data would have
+        long legacyId = 100_000;
+        jdbcTemplate.update("INSERT INTO candidates (id, name, email, status) VALUES (?, ?, ?, ?)",
+                legacyId, "Legacy Row", "legacy.row@example.com", "NEW");
+
+        candidateSequenceSeeder.seed();
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR candidate_seq", Long.class);
+        // The pooled optimizer hands out next-49..next, all above the existing row
+        assertEquals(legacyId + 50, next);
+
+        candidateSequenceSeeder.seed();
+        assertTrue(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR candidate_seq", Long.class) > next);
+
+        jdbcTemplate.update("DELETE FROM candidates WHERE id = ?", legacyId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.Sumanth.resume_scoring.config;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.UploadResponseDTO;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.service.JobRoleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures time-to-first-fast-request: once the context reports ready (after the
+ * warm-up runner), the very first upload should already be served at warm speed.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class StartupWarmupTest {
+
+    // Only catches a first upload that is still paying for cold class loading and context setup;
+    // the bound is deliberately loose so a loaded CI runner does not make it flaky
+    private static final long FIRST_UPLOAD_BUDGET_MS = 10_000;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void firstUploadAfterReadinessIsFast() {
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        // Also warms the test client, so the timing below is server-side cost only
+        ResponseEntity<String> readiness = restTemplate.getForEntity("/actuator/health/readiness", String.class);
+        assertEquals(HttpStatus.OK, readiness.getStatusCode());
+
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Backend Engineer");
+        roleRequest.setMinExperienceYears(3);
+        roleRequest.setRequiredSkills("Java, Spring Boot, Docker, AWS");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ClassPathResource("warmup/sample-resume.pdf"));
+        body.add("name", "Alex Morgan");
+        body.add("email", "alex.morgan@example.com");
+        body.add("roleId", role.getId().toString());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        long start = System.nanoTime();
+        ResponseEntity<UploadResponseDTO> response = restTemplate.postForEntity(
+                "/api/resume/upload", new HttpEntity<>(body, headers), UploadResponseDTO.class);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertTrue(response.getBody().getScore() > 0);
+        assertTrue(elapsedMs < FIRST_UPLOAD_BUDGET_MS, "first upload took " + elapsedMs + " ms");
+    }
+}
@@ -0,0 +1,91 @@
+package com.Sumanth.resume_scoring.controller;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.RegisterRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.AuthResponseDTO;
+import com.Sumanth.resume_scoring.dto.response.BulkUploadResponseDTO;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.service.BulkUploadJobService;
+import com.Sumanth.resume_scoring.service.JobRoleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.servlet.multipart.max-file-size=1MB", "spring.servlet.multipart.max-request-size=1MB"})
+@ActiveProfiles("test")
+class BulkUploadControllerTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private BulkUploadJobService bulkUploadJobService;
+
+    @Test
+    void zipArchiveAboveTheMultipartLimitIsStreamedToTheJob() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Archive Engineer");
+        roleRequest.setMinExperienceYears(2);
+        roleRequest.setRequiredSkills("Java, AWS");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("archive-resume.pdf"));
+            zip.write(new ClassPathResource("warmup/sample-resume.pdf").getContentAsByteArray());
+            // Random bytes do not compress, so the archive stays above the 1 MB multipart limit
+            byte[] padding = new byte[1_500_000];
+            new Random(42).nextBytes(padding);
+            zip.putNextEntry(new ZipEntry("padding.bin"));
+            zip.write(padding);
+        }
+        assertTrue(bytes.size() > 1024 * 1024);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setBearerAuth(registerRecruiter());
+
+        ResponseEntity<BulkUploadResponseDTO> response = restTemplate.postForEntity(
+                "/api/resume/bulk-upload/zip?roleId=" + role.getId(),
+                new HttpEntity<>(bytes.toByteArray(), headers), BulkUploadResponseDTO.class);
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+
+        BulkUploadResponseDTO status = response.getBody();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (status.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            status = bulkUploadJobService.getStatus(status.getJobId());
+        }
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(1, status.getSuccessCount());
+    }
+
+    private String registerRecruiter() {
+        RegisterRequestDTO request = RegisterRequestDTO.builder()
+                .username("archive-recruiter")
+                .email("archive.recruiter@example.com")
+                .password("archive-password")
+                .build();
+        return restTemplate.postForObject("/api/auth/register", request, AuthResponseDTO.class).getToken();
+    }
+}
@@ -0,0 +1,86 @@
+package com.Sumanth.resume_scoring.pdf;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfTextExtractorTest {
+
+    private static final int PAGES = 37;
+
+    @TempDir
+    static Path tempDir;
+
+    private static File pdf;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void createDocument() throws Exception {
+        pdf = tempDir.resolve("publications.pdf").toFile();
+        try (PDDocument document = new PDDocument()) {
+            for (int p = 1; p <= PAGES; p++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 11);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 700);
+                    for (int line = 1; line <= 12; line++) {
+                        content.showText("Page " + p + " line " + line + ": 5 years Java, Spring Boot and SQL");
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(pdf);
+        }
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parallelRangesMatchSequentialText() throws Exception {
+        PdfTextExtractor extractor = new PdfTextExtractor(Integer.MAX_VALUE, MemoryUsageSetting::setupMainMemoryOnly);
+        String sequential = extract(extractor, 1);
+
+        assertTrue(sequential.contains("Page " + PAGES + " line 12"));
+        for (int ranges : new int[] {2, 3, 4, 7, PAGES, PAGES + 5}) {
+            assertEquals(sequential, extract(extractor, ranges), "ranges=" + ranges);
+        }
+    }
+
+    @Test
+    void characterCapTruncatesIdentically() throws Exception {
+        for (int cap : new int[] {1, 500, 4321, 20000}) {
+            PdfTextExtractor extractor = new PdfTextExtractor(cap, MemoryUsageSetting::setupMainMemoryOnly);
+            String sequential = extract(extractor, 1);
+            assertTrue(sequential.length() <= cap);
+            assertEquals(sequential, extract(extractor, 4), "cap=" + cap);
+        }
+    }
+
+    private static String extract(PdfTextExtractor extractor, int ranges) throws Exception {
+        try (PDDocument document = PDDocument.load(pdf, MemoryUsageSetting.setupMainMemoryOnly())) {
+            return ranges == 1 ? extractor.extract(document) : extractor.extractParallel(document, pdf, ranges, executor);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.Sumanth.resume_scoring.scoring;
+
+import com.Sumanth.resume_scoring.scoring.ResumeFeatures.EducationTier;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumeSignalScannerTest {
+
+    // The regexes the scanner replaced; they define the expected results
+    private static final Pattern YEARS = Pattern.compile("(\\d+)\\+?\\s*(years?|yrs?)");
+    private static final Pattern EMAIL = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}");
+    private static final Pattern PHONE = Pattern.compile("(\\+?\\d{1,3}[- ]?)?\\(?\\d{3}\\)?[- ]?\\d{3}[- ]?\\d{4}");
+
+    private static final String[] GOLDEN = {
+            "",
+            "Jane Doe\njane.doe@example.com | +1 (415) 555-0134\n8+ years of experience, PhD in CS",
+            "5 yrs backend, 12years total, 3+\tYears lead",
+            "10 Yr. 7yrsx 2 year",
+            "Bachelor of Science; B.Tech; b.e. civil",
+            "M.Tech 2015, MBA 2018",
+            "Masters degree and a Doctorate",
+            "a@b.co", "@b.co", "a@.co", "a@..co", "a@b.c", "a@b.c1", "x@y-z.COM", "mail:@@a.bc",
+            "415)555-0134", "(415) 5550134", "4155550134", "415--555-0134", "41 5555 0134",
+            "123456789", "phone 12345678901234567890",
+            "99999 years",
+            "transcript 3.4 3.9 4.0 2019 2020 2021 grade 12 semester 4 credits 120",
+    };
+
+    @Test
+    void matchesFormerRegexesOnGoldenCorpus() {
+        for (String text : GOLDEN) {
+            assertSameAsRegex(text);
+        }
+    }
+
+    @Test
+    void matchesFormerRegexesOnGeneratedCorpus() {
+        Random random = new Random(7);
+        String[] tokens = {"1", "23", "456", "7890", " ", "  ", "\n", "+", "-", "(", ")", ".", "@", "_",
+                "years", "Year", "yrs", "yr", "y", "ea", "phd", "Doctorate", "masters", "m.tech", "MBA",
+                "bachelor", "b.tech", "b.e", "b", "e", "a", "co", "Z", "%"};
+        for (int n = 0; n < 20000; n++) {
+            StringBuilder text = new StringBuilder();
+            int count = random.nextInt(30);
+            for (int t = 0; t < count; t++) {
+                text.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertSameAsRegex(text.toString());
+        }
+    }
+
+    @Test
+    void scansLargeDigitHeavyTextLinearly() {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 2_000_000) {
+            text.append("12 34 56 78 (90) 1-2-3 ");
+        }
+        long start = System.nanoTime();
+        ResumeSignalScanner.scan(text);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis < 2_000, "scan took " + elapsedMillis + " ms");
+    }
+
+    private static void assertSameAsRegex(String text) {
+        Integer expectedYears = regexYears(text.toLowerCase());
+        ResumeSignalScanner scanned = ResumeSignalScanner.scan(text);
+
+        if (expectedYears != null) {
+            assertEquals(expectedYears.intValue(), scanned.getMaxYears(), () -> "years in: " + text);
+        }
+        assertEquals(regexEducation(text.toLowerCase()), scanned.getEducationTier(), () -> "education in: " + text);
+        assertEquals(EMAIL.matcher(text).find(), scanned.isEmailPresent(), () -> "email in: " + text);
+        assertEquals(PHONE.matcher(text).find(), scanned.isPhonePresent(), () -> "phone in: " + text);
+    }
+
+    // null when the old code would have thrown on an out-of-range number
+    private static Integer regexYears(String lowerText) {
+        List<String> values = new ArrayList<>();
+        Matcher m = YEARS.matcher(lowerText);
+        while (m.find()) values.add(m.group(1));
+        int max = 0;
+        try {
+            for (String v : values) max = Math.max(max, Integer.parseInt(v));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return max;
+    }
+
+    private static EducationTier regexEducation(String lowerText) {
+        if (lowerText.contains("phd") || lowerText.contains("doctorate")) return EducationTier.DOCTORATE;
+        if (lowerText.contains("masters") || lowerText.contains("m.tech") || lowerText.contains("mba")) return EducationTier.MASTERS;
+        if (lowerText.contains("bachelor") || lowerText.contains("b.tech") || lowerText.contains("b.e")) return EducationTier.BACHELORS;
+        return EducationTier.NONE;
+    }
+}
@@ -0,0 +1,129 @@
+package com.Sumanth.resume_scoring.scoring;
+
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillMatcherTest {
+
+    private static final String[][] SKILLS = {
+            {"Java", null},
+            {"JavaScript", "js, ecmascript"},
+            {"C++", "cpp"},
+            {"C#", "csharp"},
+            {".NET", "dotnet, asp.net"},
+            {"Spring Boot", "springboot"},
+            {"Machine Learning", "ml"},
+            {"Go", "golang"},
+            {"SQL", "t-sql, pl/sql"},
+            {"Node.js", "node"},
+            {"AWS", null},
+            {"R", null},
+    };
+
+    private static final String[] GOLDEN = {
+            "",
+            "java",
+            "javascript",
+            "java/javascript developer",
+            "javascripting and javas",
+            "JAVA, JavaScript and Java_Script",
+            "java_ developer, _java, java8, 8java, java-8, (java), java.",
+            "c++ developer", "c++", "(c++)", "c++11", "xc++ ", "c++/cpp",
+            "c# .net", "c#, .net core", "asp.net mvc", "dotnet6", " .net", "x.net", ".netty",
+            "Spring Boot and SpringBoot", "spring  boot", "spring-boot", "spring boot_2",
+            "machine learning; machine-learning; ml; html; mlops",
+            "go, golang, google, go-to, ago",
+            "t-sql and pl/sql and sql", "mysql nosql sql_server",
+            "node.js node.jsx nodejs node",
+            "aws-lambda aws_lambda awsome", "r, r&d, R2, r.",
+            "Ünicode java é java",
+    };
+
+    @Test
+    void matchesFormerRegexOnGoldenCorpus() {
+        SkillMatcher matcher = SkillMatcher.compile(roleSkills());
+        for (String text : GOLDEN) {
+            assertEquals(regexMatches(text.toLowerCase()), matcher.match(text.toLowerCase()), text);
+        }
+    }
+
+    @Test
+    void matchesFormerRegexOnRandomText() {
+        SkillMatcher matcher = SkillMatcher.compile(roleSkills());
+        String[] tokens = {"java", "javascript", "script", "c", "++", "#", ".", "net", "spring", "boot", "go",
+                "sql", "t-", "node", "js", "aws", "r", "ml", "_", "8", " ", " ", ",", "-", "/", "(", ")"};
+        Random random = new Random(7);
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder text = new StringBuilder();
+            for (int t = random.nextInt(12); t >= 0; t--) {
+                text.append(tokens[random.nextInt(tokens.length)]);
+            }
+            String lower = text.toString();
+            assertEquals(regexMatches(lower), matcher.match(lower), lower);
+        }
+    }
+
+    @Test
+    void overlappingSkillsMatchIndependently() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of(skill("Java", null), skill("JavaScript", null)));
+        assertEquals(bits(1), matcher.match("javascript only"));
+        assertEquals(bits(0), matcher.match("java only"));
+        assertEquals(bits(0, 1), matcher.match("java and javascript"));
+        assertTrue(matcher.match("javajavascript").isEmpty());
+    }
+
+    // Deliberate difference: the regex compiled an empty alias to \b\b, which matched almost any text
+    @Test
+    void emptyAliasesMatchNothing() {
+        SkillMatcher matcher = SkillMatcher.compile(List.of(skill("Kotlin", "a,,b")));
+        assertFalse(matcher.match("plain text with no skill").get(0));
+    }
+
+    // The per-skill \b...\b regex the matcher replaced; it defines the expected results
+    private static BitSet regexMatches(String lowerText) {
+        BitSet matched = new BitSet();
+        for (int i = 0; i < SKILLS.length; i++) {
+            List<String> terms = new ArrayList<>(List.of(SKILLS[i][0]));
+            if (SKILLS[i][1] != null) {
+                for (String alias : SKILLS[i][1].split(",")) terms.add(alias.trim());
+            }
+            for (String term : terms) {
+                if (Pattern.compile("\\b" + Pattern.quote(term.toLowerCase()) + "\\b").matcher(lowerText).find()) {
+                    matched.set(i);
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static List<RoleSkill> roleSkills() {
+        List<RoleSkill> skills = new ArrayList<>();
+        for (String[] s : SKILLS) skills.add(skill(s[0], s[1]));
+        return skills;
+    }
+
+    private static RoleSkill skill(String name, String aliases) {
+        RoleSkill skill = new RoleSkill();
+        skill.setId((long) name.hashCode());
+        skill.setSkillName(name);
+        skill.setAliases(aliases);
+        return skill;
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int i : indexes) bits.set(i);
+        return bits;
+    }
+}
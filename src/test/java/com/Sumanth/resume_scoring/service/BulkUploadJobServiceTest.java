@@ -0,0 +1,147 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.BulkUploadItemDTO;
+import com.Sumanth.resume_scoring.dto.response.BulkUploadResponseDTO;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkUploadJobServiceTest {
+
+    @Autowired
+    private BulkUploadJobService bulkUploadJobService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private IngestExecutor ingestExecutor;
+
+    @Test
+    void parallelJobScoresEveryFileAndRanksTheBatch() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Platform Engineer");
+        roleRequest.setMinExperienceYears(2);
+        roleRequest.setRequiredSkills("Java, Docker, AWS");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        byte[] pdf = new ClassPathResource("warmup/sample-resume.pdf").getContentAsByteArray();
+        MultipartFile[] files = new MultipartFile[9];
+        for (int i = 0; i < 8; i++) {
+            files[i] = new MockMultipartFile("files", "bulk-" + i + ".pdf", "application/pdf", pdf);
+        }
+        // Same default email as the first file of the batch
+        files[8] = new MockMultipartFile("files", "bulk-0.pdf", "application/pdf", pdf);
+
+        BulkUploadResponseDTO status = bulkUploadJobService.startJob(files, role.getId());
+        assertNotNull(status.getJobId());
+        assertEquals(9, status.getTotalUploaded());
+
+        status = awaitCompletion(bulkUploadJobService, status);
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(0, status.getPendingCount());
+        assertEquals(8, status.getSuccessCount());
+        assertEquals(1, status.getFailedCount());
+        for (BulkUploadItemDTO item : status.getResults()) {
+            if ("SCORED".equals(item.getStatus())) {
+                assertNotNull(item.getCandidateId());
+                assertEquals(1, item.getRank()); // identical resumes share the top rank
+            }
+        }
+    }
+
+    @Test
+    void zipJobStreamsEntriesThroughThePipeline() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Data Engineer");
+        roleRequest.setRequiredSkills("Java, AWS");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        byte[] pdf = new ClassPathResource("warmup/sample-resume.pdf").getContentAsByteArray();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("export/"));
+            for (int i = 0; i < 3; i++) {
+                zip.putNextEntry(new ZipEntry("export/zip-" + i + ".pdf"));
+                zip.write(pdf);
+            }
+            zip.putNextEntry(new ZipEntry("export/notes.txt"));
+            zip.write("not a resume".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("__MACOSX/export/._zip-0.pdf"));
+            zip.write(1);
+        }
+
+        BulkUploadResponseDTO status = awaitCompletion(bulkUploadJobService,
+                bulkUploadJobService.startZipJob(new ByteArrayInputStream(bytes.toByteArray()), bytes.size(), role.getId()));
+
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(4, status.getTotalUploaded());
+        assertEquals(3, status.getSuccessCount());
+        assertEquals(List.of("notes.txt: Not a PDF file"), status.getFailedEmails());
+    }
+
+    @Test
+    void scheduledPurgeDropsJobsPastTheirRetention() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Retention Engineer");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        MultipartFile[] files = {new MockMultipartFile("files", "retention.pdf", "application/pdf",
+                new ClassPathResource("warmup/sample-resume.pdf").getContentAsByteArray())};
+        BulkUploadResponseDTO status = awaitCompletion(bulkUploadJobService, bulkUploadJobService.startJob(files, role.getId()));
+        assertEquals("COMPLETED", status.getState());
+
+        bulkUploadJobService.purgeFinishedJobs();
+        assertNotNull(bulkUploadJobService.getStatus(status.getJobId()));
+
+        // A negative retention puts the cutoff in the future, so every finished job is due
+        ReflectionTestUtils.setField(bulkUploadJobService, "retentionMinutes", -1L);
+        try {
+            bulkUploadJobService.purgeFinishedJobs();
+        } finally {
+            ReflectionTestUtils.setField(bulkUploadJobService, "retentionMinutes", 60L);
+        }
+        String jobId = status.getJobId();
+        assertThrows(ResourceNotFoundException.class, () -> bulkUploadJobService.getStatus(jobId));
+    }
+
+    @Test
+    void bulkWindowLeavesAnIngestThreadForSingleUploads() {
+        int parallelism = (int) ReflectionTestUtils.getField(bulkUploadJobService, "parallelism");
+        assertTrue(parallelism >= 1);
+        assertTrue(parallelism < ingestExecutor.getThreads());
+    }
+
+    // Shared with the other bulk job tests of this package
+    static BulkUploadResponseDTO awaitCompletion(BulkUploadJobService service, BulkUploadResponseDTO status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (status.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            status = service.getStatus(status.getJobId());
+        }
+        return status;
+    }
+}
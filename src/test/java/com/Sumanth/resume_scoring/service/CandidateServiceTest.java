@@ -0,0 +1,170 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidatePageDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidateResponseDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CandidateServiceTest {
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void listsComeFromProjectionsAndResumeTextLoadsOnlyWhenRead() {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Projection Role");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        Candidate candidate = new Candidate();
+        candidate.setName("Lazy Text");
+        candidate.setEmail("lazy.text@example.com");
+        candidate.setResumeText("Java developer with 4 years of experience");
+        candidate.setJobRole(role);
+        candidate.setTotalScore(70);
+        candidate.setStatus("NEW");
+        Long id = candidateRepository.save(candidate).getId();
+
+        List<CandidateResponseDTO> rows = candidateService.searchCandidates(role.getId(), null, null, "lazy", null, null, null).getItems();
+        assertEquals(1, rows.size());
+        assertEquals("Projection Role", rows.get(0).getRoleName());
+        assertEquals(1, rows.get(0).getRankInRole());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Candidate loaded = candidateRepository.findById(id).orElseThrow();
+            assertFalse(Hibernate.isPropertyInitialized(loaded, "resumeText"));
+            assertTrue(loaded.getResumeText().startsWith("Java developer"));
+        });
+        assertTrue(candidateService.exportCandidatesToCsv().contains("lazy.text@example.com,Projection Role,70"));
+    }
+
+    @Test
+    void keysetPagesWalkTiedScoresWithoutGapsOrRepeats() {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Paging Role");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        int[] scores = {90, 80, 80, 80, 60};
+        for (int i = 0; i < scores.length; i++) {
+            Candidate candidate = new Candidate();
+            candidate.setName("Page " + i);
+            candidate.setEmail("page" + i + "@example.com");
+            candidate.setResumeText("Java");
+            candidate.setJobRole(role);
+            candidate.setTotalScore(scores[i]);
+            candidate.setStatus("NEW");
+            candidateRepository.save(candidate);
+        }
+
+        List<Long> seen = new ArrayList<>();
+        List<Integer> seenScores = new ArrayList<>();
+        String cursor = null;
+        do {
+            CandidatePageDTO page = candidateService.searchCandidates(role.getId(), null, null, null, "score", cursor, 2);
+            assertTrue(page.getItems().size() <= 2);
+            page.getItems().forEach(c -> {
+                seen.add(c.getId());
+                seenScores.add(c.getTotalScore());
+            });
+            cursor = page.getNextCursor();
+            assertEquals(page.isHasMore(), cursor != null);
+        } while (cursor != null);
+
+        assertEquals(5, new HashSet<>(seen).size());
+        assertEquals(List.of(90, 80, 80, 80, 60), seenScores);
+        assertThrows(IllegalArgumentException.class,
+                () -> candidateService.searchCandidates(role.getId(), null, null, null, "created", "not-a-cursor", 2));
+    }
+
+    @Test
+    void keysetPagesContinuePastUnscoredCandidates() {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Unscored Paging Role");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        Integer[] scores = {70, null, 50, null, null};
+        for (int i = 0; i < scores.length; i++) {
+            Candidate candidate = new Candidate();
+            candidate.setName("Unscored " + i);
+            candidate.setEmail("unscored" + i + "@example.com");
+            candidate.setResumeText("Java");
+            candidate.setJobRole(role);
+            candidate.setTotalScore(scores[i]);
+            candidate.setStatus("NEW");
+            candidateRepository.save(candidate);
+        }
+
+        // The second page ends on an unscored row, so its cursor carries a null score
+        List<Long> seen = new ArrayList<>();
+        List<Integer> seenScores = new ArrayList<>();
+        String cursor = null;
+        do {
+            CandidatePageDTO page = candidateService.searchCandidates(role.getId(), null, null, null, "score", cursor, 2);
+            page.getItems().forEach(c -> {
+                seen.add(c.getId());
+                seenScores.add(c.getTotalScore());
+            });
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(5, new HashSet<>(seen).size());
+        assertEquals(Arrays.asList(70, 50, null, null, null), seenScores);
+    }
+
+    @Test
+    void reanalysisRanksAgainstOthersNotTheOldScore() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Rescore Role");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        Candidate candidate = new Candidate();
+        candidate.setName("Dropping Score");
+        candidate.setEmail("dropping.score@example.com");
+        candidate.setResumeText("Java");
+        candidate.setJobRole(role);
+        candidate.setTotalScore(100);
+        candidate.setStatus("NEW");
+        candidate = candidateRepository.save(candidate);
+        rankingService.recordScore(role.getId(), candidate.getId(), 100);
+
+        CandidateResponseDTO rescored = candidateService.reanalyzeCandidate(candidate.getId());
+        assertTrue(rescored.getTotalScore() < 100);
+        assertEquals(1, rescored.getRankInRole());
+    }
+}
@@ -0,0 +1,131 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.UploadSessionRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.BulkUploadResponseDTO;
+import com.Sumanth.resume_scoring.dto.response.UploadSessionDTO;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.Sumanth.resume_scoring.service.BulkUploadJobServiceTest.awaitCompletion;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "upload.chunk.size-bytes=512")
+@ActiveProfiles("test")
+class ChunkedUploadServiceTest {
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private BulkUploadJobService bulkUploadJobService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Value("${upload.staging-dir:${upload.dir:uploads}/staging}")
+    private String stagingDir;
+
+    @Test
+    void chunksArrivingOutOfOrderAndResentAssembleTheFile() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Cloud Engineer");
+        roleRequest.setRequiredSkills("Java, AWS");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        byte[] pdf = new ClassPathResource("warmup/sample-resume.pdf").getContentAsByteArray();
+        UploadSessionDTO session = chunkedUploadService.createSession(
+                new UploadSessionRequestDTO("chunked-resume.pdf", (long) pdf.length, role.getId()));
+        int chunks = session.getTotalChunks();
+        assertTrue(chunks > 2);
+
+        // A dropped connection leaves a short chunk that does not count as received
+        assertThrows(IllegalArgumentException.class,
+                () -> chunkedUploadService.writeChunk(session.getSessionId(), 0, new ByteArrayInputStream(pdf, 0, 100)));
+        assertEquals(chunks, chunkedUploadService.getSession(session.getSessionId()).getMissingChunks().size());
+        assertThrows(IllegalArgumentException.class, () -> chunkedUploadService.complete(session.getSessionId()));
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < chunks; i++) order.add(i);
+        Collections.reverse(order);
+        for (int index : order) {
+            int from = index * 512;
+            byte[] chunk = Arrays.copyOfRange(pdf, from, Math.min(pdf.length, from + 512));
+            chunkedUploadService.writeChunk(session.getSessionId(), from, new ByteArrayInputStream(chunk));
+        }
+        assertTrue(chunkedUploadService.getSession(session.getSessionId()).getMissingChunks().isEmpty());
+
+        BulkUploadResponseDTO status = awaitCompletion(bulkUploadJobService, chunkedUploadService.complete(session.getSessionId()));
+        assertEquals(1, status.getSuccessCount());
+        assertTrue(status.getResults().get(0).getScore() > 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> chunkedUploadService.writeChunk(session.getSessionId(), 0, new ByteArrayInputStream(pdf, 0, 512)));
+    }
+
+    @Test
+    void failedJobStartLeavesTheSessionRetryable() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Removed Role");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        byte[] pdf = new ClassPathResource("warmup/sample-resume.pdf").getContentAsByteArray();
+        UploadSessionDTO session = chunkedUploadService.createSession(
+                new UploadSessionRequestDTO("orphan-resume.pdf", (long) pdf.length, role.getId()));
+        for (int from = 0; from < pdf.length; from += 512) {
+            chunkedUploadService.writeChunk(session.getSessionId(), from,
+                    new ByteArrayInputStream(Arrays.copyOfRange(pdf, from, Math.min(pdf.length, from + 512))));
+        }
+
+        // The role disappears between the last chunk and completion, so the job cannot start
+        jobRoleService.deleteRole(role.getId());
+        assertThrows(ResourceNotFoundException.class, () -> chunkedUploadService.complete(session.getSessionId()));
+
+        // The assembled file went back to staging: a retry fails the same way, not with a missing file
+        assertTrue(chunkedUploadService.getSession(session.getSessionId()).getMissingChunks().isEmpty());
+        assertThrows(ResourceNotFoundException.class, () -> chunkedUploadService.complete(session.getSessionId()));
+        chunkedUploadService.cancel(session.getSessionId());
+    }
+
+    @Test
+    void scheduledPurgeDropsIdleSessionsAndTheirPartialFiles() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Idle Upload Role");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        UploadSessionDTO session = chunkedUploadService.createSession(
+                new UploadSessionRequestDTO("idle-resume.pdf", 2048L, role.getId()));
+        Path stagingFile = Paths.get(stagingDir).resolve(session.getSessionId() + ".part");
+        assertTrue(Files.exists(stagingFile));
+
+        // A negative TTL puts the cutoff in the future, so every session counts as idle
+        ReflectionTestUtils.setField(chunkedUploadService, "ttlMinutes", -1L);
+        try {
+            chunkedUploadService.purgeExpiredSessions();
+        } finally {
+            ReflectionTestUtils.setField(chunkedUploadService, "ttlMinutes", 1440L);
+        }
+        assertThrows(ResourceNotFoundException.class, () -> chunkedUploadService.getSession(session.getSessionId()));
+        assertFalse(Files.exists(stagingFile));
+    }
+}
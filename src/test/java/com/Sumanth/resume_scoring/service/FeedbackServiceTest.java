@@ -0,0 +1,79 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.RoleSkillUpdateDTO;
+import com.Sumanth.resume_scoring.dto.response.RescoreStatusDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FeedbackServiceTest {
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private RoleRescoreService roleRescoreService;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Test
+    void feedbackFollowsTheRoleVersionEvenWhenSkillsKeepTheirSignature() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Feedback Role");
+        roleRequest.setRequiredSkills("Java, Docker");
+        JobRole role = jobRoleService.createRole(roleRequest);
+        role = jobRoleService.getRoleWithSkills(role.getId());
+
+        Candidate candidate = new Candidate();
+        candidate.setName("Feedback Candidate");
+        candidate.setEmail("feedback.candidate@example.com");
+        candidate.setResumeText("Java developer, 4 years");
+        candidate.setJobRole(role);
+        candidate.setStatus("NEW");
+        scoringEngineService.evaluate(candidate.getResumeText(), role).applyTo(candidate);
+        Long id = candidateRepository.save(candidate).getId();
+        String signature = candidate.getSkillSignature();
+
+        String before = candidateService.getCandidateDetail(id).getFeedback();
+        assertTrue(before.contains("CRITICAL MISSING SKILLS: Docker"), before);
+        assertEquals(before, candidateService.getCandidateDetail(id).getFeedback());
+
+        // Versions have millisecond resolution
+        Thread.sleep(5);
+        RoleSkill docker = role.getRequiredSkills().stream()
+                .filter(s -> s.getSkillName().equals("Docker"))
+                .findFirst()
+                .orElseThrow();
+        // Mandatory flags are not part of the skill signature, so only the role version tells the entries apart
+        jobRoleService.updateSkill(role.getId(), docker.getId(), RoleSkillUpdateDTO.builder().mandatory(false).build());
+        RescoreStatusDTO rescore = roleRescoreService.getStatus(role.getId());
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (rescore.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            rescore = roleRescoreService.getStatus(role.getId());
+        }
+
+        assertEquals(signature, candidateRepository.findById(id).orElseThrow().getSkillSignature());
+        String after = candidateService.getCandidateDetail(id).getFeedback();
+        assertFalse(after.contains("CRITICAL MISSING SKILLS"), after);
+    }
+}
@@ -0,0 +1,57 @@
+package com.Sumanth.resume_scoring.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "ingest.timeout-ms=200")
+@ActiveProfiles("test")
+class IngestExecutorTest {
+
+    @Autowired
+    private IngestExecutor ingestExecutor;
+
+    @Test
+    void taskThatTimedOutCannotClaimItsCommit() throws Exception {
+        AtomicReference<Throwable> claim = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        CompletableFuture<String> future = ingestExecutor.submit(() -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                // Interrupted by the timeout, like a parse that ignores it and carries on to save
+            }
+            try {
+                IngestExecutor.claimCompletion();
+            } catch (IllegalStateException e) {
+                claim.set(e);
+            } finally {
+                finished.countDown();
+            }
+            return "saved";
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, claim.get());
+
+        assertEquals("saved", ingestExecutor.submit(() -> {
+            IngestExecutor.claimCompletion();
+            return "saved";
+        }).get());
+    }
+}
@@ -0,0 +1,74 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidateResponseDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "leaderboard.capacity=3")
+@ActiveProfiles("test")
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Test
+    void fullBoardRefillsFromTheDatabaseWhenAMemberLeaves() {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Leaderboard Role");
+        roleRequest.setRequiredSkills("Java");
+        JobRole role = jobRoleService.createRole(roleRequest);
+
+        int[] scores = {90, 80, 70, 60, 50};
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            Candidate candidate = new Candidate();
+            candidate.setName("Board " + i);
+            candidate.setEmail("board" + i + "@example.com");
+            candidate.setResumeText("Java");
+            candidate.setJobRole(role);
+            candidate.setTotalScore(scores[i]);
+            candidate.setStatus("NEW");
+            ids.add(candidateRepository.save(candidate).getId());
+        }
+
+        assertEquals(List.of(90, 80, 70), topScores(role.getId()));
+
+        // A rejected member leaves a full board; the next-best candidate has to come from the database
+        candidateService.updateCandidateStatus(ids.get(1), "REJECTED");
+        assertEquals(List.of(90, 70, 60), topScores(role.getId()));
+
+        candidateService.deleteCandidate(ids.get(0));
+        assertEquals(List.of(70, 60, 50), topScores(role.getId()));
+
+        // Back on the board once no longer rejected
+        candidateService.updateCandidateStatus(ids.get(1), "SHORTLISTED");
+        assertEquals(List.of(80, 70, 60), topScores(role.getId()));
+    }
+
+    private List<Integer> topScores(Long roleId) {
+        return leaderboardService.getTop(roleId, 3).stream()
+                .map(CandidateResponseDTO::getTotalScore)
+                .collect(Collectors.toList());
+    }
+}
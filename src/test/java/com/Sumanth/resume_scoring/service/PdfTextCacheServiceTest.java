@@ -0,0 +1,80 @@
+package com.Sumanth.resume_scoring.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "pdf.text-cache.disk-enabled=true",
+        "pdf.text-cache.dir=${java.io.tmpdir}/resume-text-cache-test",
+        "pdf.text-cache.max-memory-chars=1000",
+        "pdf.text-cache.disk-max-bytes=1000"
+})
+@ActiveProfiles("test")
+class PdfTextCacheServiceTest {
+
+    private static final Path DIR = Paths.get(System.getProperty("java.io.tmpdir"), "resume-text-cache-test");
+
+    @Autowired
+    private PdfTextCacheService pdfTextCacheService;
+
+    @Test
+    void bothTiersStayWithinTheirSizeBudgets() throws Exception {
+        // Files from an earlier run of this test would count against the budget
+        for (String key : new String[]{"cold", "warm", "new"}) {
+            pdfTextCacheService.remove(key);
+        }
+        String text = "x".repeat(400);
+        pdfTextCacheService.put("cold", text);
+        pdfTextCacheService.put("warm", text);
+        Files.setLastModifiedTime(DIR.resolve("cold.txt"), FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+        Files.setLastModifiedTime(DIR.resolve("warm.txt"), FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+
+        // 1200 bytes on disk is over budget: the least recently used file goes first
+        pdfTextCacheService.put("new", text);
+        assertFalse(Files.exists(DIR.resolve("cold.txt")));
+        assertTrue(Files.exists(DIR.resolve("warm.txt")));
+        assertTrue(Files.exists(DIR.resolve("new.txt")));
+
+        // The memory tier holds at most 1000 characters, so "warm" is served from disk again
+        assertEquals(text, pdfTextCacheService.get("warm"));
+        assertNull(pdfTextCacheService.get("cold"));
+
+        pdfTextCacheService.remove("warm");
+        assertFalse(Files.exists(DIR.resolve("warm.txt")));
+        assertNull(pdfTextCacheService.get("warm"));
+
+        // Cached resume text is readable by the owner only
+        if (DIR.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(DIR));
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(DIR.resolve("new.txt")));
+        }
+    }
+
+    @Test
+    void diskTierRefusesARelativeDirectory() {
+        PdfTextCacheService relative = new PdfTextCacheService();
+        ReflectionTestUtils.setField(relative, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relative, "maxMemoryChars", 1000L);
+        ReflectionTestUtils.setField(relative, "diskEnabled", true);
+        ReflectionTestUtils.setField(relative, "cacheDir", "text-cache");
+        assertThrows(IllegalStateException.class, relative::init);
+    }
+}
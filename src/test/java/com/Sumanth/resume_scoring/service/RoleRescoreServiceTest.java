@@ -0,0 +1,94 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.RoleSkillUpdateDTO;
+import com.Sumanth.resume_scoring.dto.response.RescoreStatusDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest(properties = "rescore.batch-size=2")
+@ActiveProfiles("test")
+class RoleRescoreServiceTest {
+
+    @Autowired
+    private RoleRescoreService roleRescoreService;
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Test
+    void weightEditRescoresEveryCandidateLikeAFullRescan() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Reweighted Role");
+        roleRequest.setMinExperienceYears(2);
+        roleRequest.setRequiredSkills("Java, Docker, Kubernetes");
+        JobRole role = jobRoleService.createRole(roleRequest);
+        role = jobRoleService.getRoleWithSkills(role.getId());
+
+        String[] resumes = {
+                "Java developer, 6 years",
+                "Docker and Kubernetes operator, 3 years, Bachelor of Science",
+                "Java, Docker, Kubernetes; 10 years",
+                "No listed skills",
+                "Java and Docker, 1 year",
+        };
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < resumes.length; i++) {
+            Candidate candidate = new Candidate();
+            candidate.setName("Reweighted " + i);
+            candidate.setEmail("reweighted" + i + "@example.com");
+            candidate.setResumeText(resumes[i]);
+            candidate.setJobRole(role);
+            candidate.setStatus("NEW");
+            scoringEngineService.evaluate(resumes[i], role).applyTo(candidate);
+            if (i == 3) {
+                // A vector from an older skill list forces the rescan path for this candidate
+                candidate.setSkillSignature("stale");
+            }
+            ids.add(candidateRepository.save(candidate).getId());
+        }
+        int javaOnlyBefore = candidateRepository.findById(ids.get(0)).orElseThrow().getTotalScore();
+
+        RoleSkill java = role.getRequiredSkills().stream()
+                .filter(s -> s.getSkillName().equals("Java"))
+                .findFirst()
+                .orElseThrow();
+        // The change commits and then starts a rescore of the role
+        jobRoleService.updateSkill(role.getId(), java.getId(), RoleSkillUpdateDTO.builder().weight(25).build());
+
+        RescoreStatusDTO status = roleRescoreService.getStatus(role.getId());
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (status.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = roleRescoreService.getStatus(role.getId());
+        }
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(resumes.length, status.getProcessedCandidates());
+
+        JobRole reweighted = jobRoleService.getRoleWithSkills(role.getId());
+        for (int i = 0; i < resumes.length; i++) {
+            Candidate candidate = candidateRepository.findById(ids.get(i)).orElseThrow();
+            assertEquals(scoringEngineService.evaluate(resumes[i], reweighted).getScore(), candidate.getTotalScore(),
+                    resumes[i]);
+        }
+        assertNotEquals(javaOnlyBefore, candidateRepository.findById(ids.get(0)).orElseThrow().getTotalScore());
+    }
+}
@@ -0,0 +1,60 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.request.RoleSkillUpdateDTO;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.entity.RoleSkill;
+import com.Sumanth.resume_scoring.scoring.ScoringResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ScoreCacheServiceTest {
+
+    @Autowired
+    private ScoreCacheService scoreCacheService;
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Test
+    void roleVersionChangeInvalidatesCachedScores() throws Exception {
+        JobRoleRequestDTO roleRequest = new JobRoleRequestDTO();
+        roleRequest.setRoleName("Cache Role");
+        roleRequest.setRequiredSkills("Java, Docker");
+        JobRole role = jobRoleService.createRole(roleRequest);
+        role = jobRoleService.getRoleWithSkills(role.getId());
+        String text = "Backend developer, 4 years of Java";
+
+        ScoringResult first = scoreCacheService.evaluate(text, role);
+        assertSame(first, scoreCacheService.evaluate(text, role));
+        assertNotSame(first, scoreCacheService.evaluate(text + " ", role));
+
+        // Versions have millisecond resolution
+        Thread.sleep(5);
+        RoleSkill java = role.getRequiredSkills().stream()
+                .filter(s -> s.getSkillName().equals("Java"))
+                .findFirst()
+                .orElseThrow();
+        // A weight edit keeps the skill list but bumps the role version, so the old result must not be served
+        jobRoleService.updateSkill(role.getId(), java.getId(), RoleSkillUpdateDTO.builder().weight(20).build());
+        JobRole reweighted = jobRoleService.getRoleWithSkills(role.getId());
+
+        ScoringResult rescored = scoreCacheService.evaluate(text, reweighted);
+        assertNotSame(first, rescored);
+        assertNotEquals(first.getScore(), rescored.getScore());
+        assertEquals(scoringEngineService.evaluate(text, reweighted).getScore(), rescored.getScore());
+        assertSame(rescored, scoreCacheService.evaluate(text, reweighted));
+    }
+}
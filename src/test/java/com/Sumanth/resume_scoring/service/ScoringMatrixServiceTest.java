@@ -0,0 +1,87 @@
+package com.Sumanth.resume_scoring.service;
+
+import com.Sumanth.resume_scoring.dto.request.JobRoleRequestDTO;
+import com.Sumanth.resume_scoring.dto.response.CandidateRoleScoresDTO;
+import com.Sumanth.resume_scoring.entity.Candidate;
+import com.Sumanth.resume_scoring.entity.JobRole;
+import com.Sumanth.resume_scoring.repository.CandidateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "scoring.matrix.page-size=2")
+@ActiveProfiles("test")
+class ScoringMatrixServiceTest {
+
+    @Autowired
+    private ScoringMatrixService scoringMatrixService;
+
+    @Autowired
+    private ScoringEngineService scoringEngineService;
+
+    @Autowired
+    private JobRoleService jobRoleService;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Test
+    void combinedAutomatonScoresEveryRoleLikeItsOwnMatcher() throws Exception {
+        // Overlapping skill names across roles (java / javascript, sql in both) share one automaton
+        JobRoleRequestDTO backend = new JobRoleRequestDTO();
+        backend.setRoleName("Matrix Backend");
+        backend.setMinExperienceYears(3);
+        backend.setRequiredSkills("Java, Spring Boot, SQL");
+        JobRole backendRole = jobRoleService.createRole(backend);
+
+        JobRoleRequestDTO frontend = new JobRoleRequestDTO();
+        frontend.setRoleName("Matrix Frontend");
+        frontend.setRequiredSkills("JavaScript, React, Node.js, SQL");
+        JobRole frontendRole = jobRoleService.createRole(frontend);
+
+        String[] resumes = {
+                "5 years Java and Spring Boot, SQL tuning",
+                "JavaScript, React and Node.js for 2 years; some SQL",
+                "Java_Script and javas, no real skills",
+                "Full stack: Java, JavaScript, React, SQL. 8 years. Bachelor of Science",
+                "",
+        };
+        Map<Long, String> texts = new HashMap<>();
+        for (int i = 0; i < resumes.length; i++) {
+            Candidate candidate = new Candidate();
+            candidate.setName("Matrix " + i);
+            candidate.setEmail("matrix" + i + "@example.com");
+            candidate.setResumeText(resumes[i]);
+            candidate.setStatus("NEW");
+            texts.put(candidateRepository.save(candidate).getId(), resumes[i]);
+        }
+
+        List<CandidateRoleScoresDTO> rows = Collections.synchronizedList(new ArrayList<>());
+        scoringMatrixService.streamMatrix(new ArrayList<>(texts.keySet()), rows::addAll);
+        assertEquals(resumes.length, rows.size());
+
+        for (CandidateRoleScoresDTO row : rows) {
+            String text = texts.get(row.getCandidateId());
+            assertTrue(row.getRoleScores().containsKey(backendRole.getId()));
+            assertTrue(row.getRoleScores().containsKey(frontendRole.getId()));
+            int best = -1;
+            for (Map.Entry<Long, Integer> score : row.getRoleScores().entrySet()) {
+                JobRole role = jobRoleService.getRoleWithSkills(score.getKey());
+                assertEquals(scoringEngineService.calculateAdvancedScore(text, role), score.getValue(),
+                        "candidate " + row.getCandidateId() + ", role " + role.getRoleName());
+                best = Math.max(best, score.getValue());
+            }
+            assertEquals(best, row.getBestScore());
+        }
+    }
+}